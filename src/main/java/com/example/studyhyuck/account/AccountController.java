@@ -1,18 +1,26 @@
 package com.example.studyhyuck.account;
 
 import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.statistics.StatisticsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Controller
 @RequiredArgsConstructor
@@ -21,6 +29,8 @@ public class AccountController {
     private final SignUpFormValidator signUpFormValidator;
     private final AccountService accountService;
     private final AccountRepository accountRepository;
+    private final StatisticsService statisticsService;
+    private final AccountNameFilter accountNameFilter;
 
     @InitBinder("signUpForm")
     public void initBinder(WebDataBinder webDataBinder) {
@@ -44,6 +54,21 @@ public class AccountController {
         return "redirect:/";
     }
 
+    /**
+     * 가입 폼에서 입력하는 동안 묻는 닉네임 사용 가능 여부. {"nickname": false} 처럼 답한다.
+     * 닉네임은 프로필 주소로 이미 공개된 값이지만, 이메일은 가입 여부를 알아내는 데 쓸 수 있으므로 묻지 않는다.
+     * 형식 검사는 폼을 제출할 때 한다.
+     */
+    @GetMapping("/sign-up/availability")
+    @ResponseBody
+    public ResponseEntity<Map<String, Boolean>> signUpAvailability(String nickname) {
+        Map<String, Boolean> availability = new LinkedHashMap<>();
+        if (StringUtils.hasText(nickname)) {
+            availability.put("nickname", !accountNameFilter.isNicknameTaken(nickname));
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(availability);
+    }
+
     @GetMapping("/check-email-token")
     public String checkEmailToken(String token, String email, Model model) {
         Account account = accountRepository.findByEmail(email);
@@ -60,7 +85,7 @@ public class AccountController {
         }
 
         accountService.completeSignUp(account);
-        model.addAttribute("numberOfUser", accountRepository.count());
+        model.addAttribute("numberOfUser", statisticsService.getNumberOfAccounts());
         model.addAttribute("nickname", account.getNickname());
         return view;
     }
@@ -92,6 +117,22 @@ public class AccountController {
         return "account/profile";
     }
 
+    /**
+     * 프로필 이미지(data URL)를 이미지로 내려준다. 목록 화면에서 이미지 원본을 모델에 싣지 않고 주소만 참조하기 위해 사용한다.
+     * 허용한 비트맵 이미지 형식이 아니거나 깨진 값이면 404.
+     */
+    @GetMapping("/profile/{nickname}/image")
+    public ResponseEntity<byte[]> profileImage(@PathVariable String nickname) {
+        ProfileImage profileImage = ProfileImage.parse(accountRepository.findProfileImageByNickname(nickname));
+        if (profileImage == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(profileImage.getMediaType())
+                .cacheControl(CacheControl.maxAge(10, TimeUnit.MINUTES))
+                .body(profileImage.getData());
+    }
 
     @GetMapping("/email-login")
     public String emailLoginForm() {
@@ -0,0 +1,153 @@
+package com.example.studyhyuck.account;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.util.Locale;
+
+/**
+ * 이미 쓰고 있는 이메일과 닉네임의 {@link BloomFilter}. 가입 폼 검증과 입력 중 확인 요청에서 "쓴 적 없음" 이 확실한 값은
+ * DB 에 묻지 않고 넘기고, "있을 수도 있음" 일 때만 DB 로 확인한다.
+ * 대소문자를 가리지 않는 DB collation 에서도 놓치지 않도록 앞뒤 공백을 떼고 소문자로 바꿔서 넣는다.
+ * 이메일 필터는 가입 폼을 제출할 때만 쓴다. 입력 중 확인 요청은 누구나 보낼 수 있어서 가입 여부를 알려주게 되므로 닉네임만 답한다.
+ * 가입하거나 닉네임을 바꿀 때는 커밋을 기다리지 않고 바로 넣는다. 롤백되어도 오탐이 하나 늘 뿐 틀린 답은 나오지 않는다.
+ * 커밋 전에 넣은 값은 그사이 다시 만들기 시작한 필터가 DB 에서 읽지 못할 수 있으므로 커밋된 뒤에 한 번 더 넣는다.
+ * 바뀌기 전 닉네임은 지울 수 없어서 다음에 다시 만들 때까지 "있을 수도 있음" 으로 남는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountNameFilter {
+
+    /**
+     * 처음 만들 때 계정 수의 이만큼 배를 담을 수 있게 잡는다. 넘치면 다음 점검 때 다시 만든다.
+     */
+    static final int GROWTH_FACTOR = 2;
+    static final long MIN_EXPECTED_ACCOUNTS = 100_000;
+    static final double FALSE_POSITIVE_RATE = 0.01;
+    static final int FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountRepository accountRepository;
+
+    /**
+     * 다 채우기 전에는 null 이고, 그동안은 모든 값을 "있을 수도 있음" 으로 답한다.
+     */
+    private volatile Filters filters;
+
+    /**
+     * 다시 만드는 중인 필터. 그동안 들어온 값은 양쪽에 넣어서 새 필터가 놓치지 않게 한다.
+     */
+    private volatile Filters building;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Long numberOfAccounts = jdbcTemplate.queryForObject("select count(*) from account", Long.class);
+        long expected = Math.max(MIN_EXPECTED_ACCOUNTS, (numberOfAccounts == null ? 0 : numberOfAccounts) * GROWTH_FACTOR);
+        Filters newFilters = new Filters(expected);
+        building = newFilters;
+        try {
+            JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+            streaming.setFetchSize(FETCH_SIZE);
+            streaming.query("select email, nickname from account", (ResultSet resultSet) -> {
+                newFilters.emails.put(normalize(resultSet.getString(1)));
+                newFilters.nicknames.put(normalize(resultSet.getString(2)));
+            });
+            filters = newFilters;
+        } finally {
+            building = null;
+        }
+        log.info("loaded {} emails, {} nicknames into {} KB of bloom filters",
+                newFilters.emails.insertions(), newFilters.nicknames.insertions(),
+                (newFilters.emails.sizeInBytes() + newFilters.nicknames.sizeInBytes()) / 1024);
+    }
+
+    @Scheduled(initialDelayString = "${app.account-name-filter-check-interval:600000}",
+            fixedDelayString = "${app.account-name-filter-check-interval:600000}")
+    public void rebuildIfSaturated() {
+        Filters current = filters;
+        if (current != null && (current.emails.isSaturated() || current.nicknames.isSaturated())) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 필터가 "쓴 적 없음" 이라고 하면 DB 에 묻지 않는다.
+     */
+    public boolean isEmailTaken(String email) {
+        return mightContainEmail(email) && accountRepository.existsByEmail(email);
+    }
+
+    public boolean isNicknameTaken(String nickname) {
+        return mightContainNickname(nickname) && accountRepository.existsByNickname(nickname);
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters current = filters;
+        return email == null || current == null || current.emails.mightContain(normalize(email));
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        Filters current = filters;
+        return nickname == null || current == null || current.nicknames.mightContain(normalize(nickname));
+    }
+
+    public void putEmail(String email) {
+        put(email, true);
+    }
+
+    public void putNickname(String nickname) {
+        put(nickname, false);
+    }
+
+    private void put(String value, boolean email) {
+        if (value == null) {
+            return;
+        }
+
+        String normalized = normalize(value);
+        putNow(normalized, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putNow(normalized, email);
+                }
+            });
+        }
+    }
+
+    private void putNow(String normalized, boolean email) {
+        Filters pending = building;
+        if (pending != null) {
+            (email ? pending.emails : pending.nicknames).put(normalized);
+        }
+        Filters current = filters;
+        if (current != null) {
+            (email ? current.emails : current.nicknames).put(normalized);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Filters {
+
+        private final BloomFilter emails;
+        private final BloomFilter nicknames;
+
+        private Filters(long expectedAccounts) {
+            this.emails = BloomFilter.create(expectedAccounts, FALSE_POSITIVE_RATE);
+            this.nicknames = BloomFilter.create(expectedAccounts, FALSE_POSITIVE_RATE);
+        }
+    }
+}
@@ -1,16 +1,71 @@
 package com.example.studyhyuck.account;
 
 import com.example.studyhyuck.domain.Account;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
 @Transactional(readOnly = true)
 public interface AccountRepository extends JpaRepository<Account, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
 
+    long countByEmailVerified(boolean emailVerified);
+
     Account findByEmail(String email);
 
     Account findByNickname(String nickname);
+
+    @EntityGraph(value = "Account.withTags", type = EntityGraph.EntityGraphType.FETCH)
+    Optional<Account> findAccountWithTagsById(Long id);
+
+    @EntityGraph(value = "Account.withZones", type = EntityGraph.EntityGraphType.FETCH)
+    Optional<Account> findAccountWithZonesById(Long id);
+
+    @Query("select a.profileImage from Account a where a.nickname = :nickname")
+    String findProfileImageByNickname(@Param("nickname") String nickname);
+
+    /**
+     * 태그/지역 컬렉션을 읽지 않고 조인 테이블에 필요한 행만 넣고 지운다. 이미 있는 행은 건너뛴다.
+     * 영속성 컨텍스트에 남아 있는 컬렉션이 DB 와 달라지지 않도록 실행 후 비운다.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into account_tags (account_id, tags_id) select :accountId, t.id from tag t " +
+            "where t.id in :tagIds and not exists " +
+            "(select 1 from account_tags existing where existing.account_id = :accountId and existing.tags_id = t.id)",
+            nativeQuery = true)
+    int addTags(@Param("accountId") Long accountId, @Param("tagIds") Collection<Long> tagIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from account_tags where account_id = :accountId and tags_id in :tagIds", nativeQuery = true)
+    int removeTags(@Param("accountId") Long accountId, @Param("tagIds") Collection<Long> tagIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into account_zones (account_id, zones_id) select :accountId, z.id from zone z " +
+            "where z.id in :zoneIds and not exists " +
+            "(select 1 from account_zones existing where existing.account_id = :accountId and existing.zones_id = z.id)",
+            nativeQuery = true)
+    int addZones(@Param("accountId") Long accountId, @Param("zoneIds") Collection<Long> zoneIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from account_zones where account_id = :accountId and zones_id in :zoneIds", nativeQuery = true)
+    int removeZones(@Param("accountId") Long accountId, @Param("zoneIds") Collection<Long> zoneIds);
+
+    @Query("select t.id from Account a join a.tags t where a.id = :accountId")
+    Set<Long> findTagIds(@Param("accountId") Long accountId);
+
+    @Query("select z.id from Account a join a.zones z where a.id = :accountId")
+    Set<Long> findZoneIds(@Param("accountId") Long accountId);
 }
@@ -6,8 +6,11 @@ import com.example.studyhyuck.domain.Tag;
 import com.example.studyhyuck.domain.Zone;
 import com.example.studyhyuck.mail.EmailMessage;
 import com.example.studyhyuck.mail.EmailService;
+import com.example.studyhyuck.recommendation.TagCooccurrenceIndex;
 import com.example.studyhyuck.settings.form.Notifications;
 import com.example.studyhyuck.settings.form.Profile;
+import com.example.studyhyuck.statistics.StatisticsService;
+import com.example.studyhyuck.study.StudyFeedCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
@@ -23,9 +26,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -39,6 +43,10 @@ public class AccountService implements UserDetailsService {
     private final ModelMapper modelMapper;
     private final TemplateEngine templateEngine;
     private final AppProperties appProperties;
+    private final StudyFeedCache studyFeedCache;
+    private final TagCooccurrenceIndex tagCooccurrenceIndex;
+    private final StatisticsService statisticsService;
+    private final AccountNameFilter accountNameFilter;
 
     public Account processNewAccount(SignUpForm signUpForm) {
         Account newAccount = saveNewAccount(signUpForm);
@@ -50,7 +58,10 @@ public class AccountService implements UserDetailsService {
         signUpForm.setPassword(passwordEncoder.encode(signUpForm.getPassword()));
         Account account = modelMapper.map(signUpForm, Account.class);
         account.generateEmailCheckToken();
-        return accountRepository.save(account);
+        Account newAccount = accountRepository.save(account);
+        accountNameFilter.putEmail(newAccount.getEmail());
+        accountNameFilter.putNickname(newAccount.getNickname());
+        return newAccount;
     }
 
     public void sendSignUpConfirmEmail(Account newAccount) {
@@ -97,7 +108,11 @@ public class AccountService implements UserDetailsService {
     }
 
     public void completeSignUp(Account account) {
+        if (!account.isEmailVerified()) {
+            statisticsService.accountVerifiedAfterCommit();
+        }
         account.completeSignUp();
+        accountRepository.save(account);    // merge
         login(account);
     }
 
@@ -119,6 +134,7 @@ public class AccountService implements UserDetailsService {
     public void updateNickname(Account account, String nickname) {
         account.setNickname(nickname);
         accountRepository.save(account);
+        accountNameFilter.putNickname(nickname);
         login(account);
     }
 
@@ -142,33 +158,54 @@ public class AccountService implements UserDetailsService {
     }
 
     public void addTag(Account account, Tag tag) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getTags().add(tag));
+        updateTags(account, List.of(tag), List.of());
     }
 
+    @Transactional(readOnly = true)
     public Set<Tag> getTags(Account account) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        return byId.orElseThrow().getTags();
+        return accountRepository.findAccountWithTagsById(account.getId()).orElseThrow().getTags();
     }
 
     public void removeTag(Account account, Tag tag) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getTags().remove(tag));
+        updateTags(account, List.of(), List.of(tag));
     }
 
+    /**
+     * 바뀐 태그만 조인 테이블에 넣고 지운다. 컬렉션을 읽어서 통째로 지우고 다시 넣지 않는다.
+     */
+    public void updateTags(Account account, Collection<Tag> tagsToAdd, Collection<Tag> tagsToRemove) {
+        Set<Long> before = accountRepository.findTagIds(account.getId());
+        if (!tagsToRemove.isEmpty()) {
+            accountRepository.removeTags(account.getId(), tagsToRemove.stream().map(Tag::getId).collect(Collectors.toSet()));
+        }
+        if (!tagsToAdd.isEmpty()) {
+            accountRepository.addTags(account.getId(), tagsToAdd.stream().map(Tag::getId).collect(Collectors.toSet()));
+        }
+        studyFeedCache.accountChangedAfterCommit(account.getId());
+        tagCooccurrenceIndex.accountTagsChangedAfterCommit(before, accountRepository.findTagIds(account.getId()));
+    }
+
+    @Transactional(readOnly = true)
     public Set<Zone> getZones(Account account) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        return byId.orElseThrow().getZones();
+        return accountRepository.findAccountWithZonesById(account.getId()).orElseThrow().getZones();
     }
 
     public void addZone(Account account, Zone zone) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getZones().add(zone));
+        updateZones(account, List.of(zone), List.of());
     }
 
     public void removeZone(Account account, Zone zone) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getZones().remove(zone));
+        updateZones(account, List.of(), List.of(zone));
+    }
+
+    public void updateZones(Account account, Collection<Zone> zonesToAdd, Collection<Zone> zonesToRemove) {
+        if (!zonesToRemove.isEmpty()) {
+            accountRepository.removeZones(account.getId(), zonesToRemove.stream().map(Zone::getId).collect(Collectors.toSet()));
+        }
+        if (!zonesToAdd.isEmpty()) {
+            accountRepository.addZones(account.getId(), zonesToAdd.stream().map(Zone::getId).collect(Collectors.toSet()));
+        }
+        studyFeedCache.accountChangedAfterCommit(account.getId());
     }
 
     public Account getAccount(String nickname) {
@@ -0,0 +1,101 @@
+package com.example.studyhyuck.account;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합의 Bloom filter. mightContain 이 false 면 넣은 적이 없는 값이고, true 면 넣었거나 오탐(false positive)이다.
+ * 비트 하나에 해시 k 개를 double hashing(h1 + i * h2) 으로 만든다. 값을 지울 수는 없다.
+ * 비트를 CAS 로 켜므로 여러 스레드가 함께 넣고 읽어도 된다.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numberOfBits;
+    private final int numberOfHashes;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long numberOfBits, int numberOfHashes, long expectedInsertions) {
+        this.bits = new AtomicLongArray((int) ((numberOfBits + 63) >>> 6));
+        this.numberOfBits = numberOfBits;
+        this.numberOfHashes = numberOfHashes;
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * expectedInsertions 개를 넣었을 때 오탐 비율이 falsePositiveRate 가 되도록 비트 수 m = -n ln p / (ln 2)^2,
+     * 해시 수 k = m / n ln 2 를 정한다.
+     */
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(Math.min(m, Integer.MAX_VALUE), k, n);
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numberOfHashes; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numberOfHashes; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 예상보다 많이 넣어서 오탐 비율이 정한 값보다 커졌는지.
+     */
+    boolean isSaturated() {
+        return insertions.get() > expectedInsertions;
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    long sizeInBytes() {
+        return bits.length() * 8L;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % numberOfBits;
+    }
+
+    /**
+     * 문자(char) 단위 FNV-1a 에 MurmurHash3 의 마무리 섞기(fmix64)를 더한 64 비트 해시.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.studyhyuck.account;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * 프로필 이미지로 저장하는 data URL("data:image/png;base64,...").
+ * 같은 주소(origin)에서 내려주므로 스크립트가 들어갈 수 있는 HTML, SVG 는 받지 않고 아래 비트맵 이미지 형식만 받는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProfileImage {
+
+    static final Set<MediaType> ALLOWED_MEDIA_TYPES = Set.of(MediaType.IMAGE_PNG, MediaType.IMAGE_JPEG, MediaType.IMAGE_GIF,
+            MediaType.valueOf("image/webp"));
+
+    private static final String PREFIX = "data:";
+    private static final String BASE64 = ";base64,";
+
+    private final MediaType mediaType;
+    private final byte[] data;
+
+    /**
+     * 허용한 형식의 올바른 data URL 이 아니면 null.
+     */
+    public static ProfileImage parse(String dataUrl) {
+        if (dataUrl == null || !dataUrl.startsWith(PREFIX)) {
+            return null;
+        }
+        int base64 = dataUrl.indexOf(BASE64);
+        if (base64 < 0) {
+            return null;
+        }
+
+        try {
+            MediaType mediaType = MediaType.parseMediaType(dataUrl.substring(PREFIX.length(), base64));
+            if (!ALLOWED_MEDIA_TYPES.contains(mediaType)) {
+                return null;
+            }
+            return new ProfileImage(mediaType, Base64.getDecoder().decode(dataUrl.substring(base64 + BASE64.length())));
+        } catch (InvalidMediaTypeException e) {
+            // 형식이 깨진 경우
+            return null;
+        } catch (IllegalArgumentException e) {
+            // Base64 가 깨진 경우
+            return null;
+        }
+    }
+
+    public static boolean isValid(String dataUrl) {
+        return parse(dataUrl) != null;
+    }
+}
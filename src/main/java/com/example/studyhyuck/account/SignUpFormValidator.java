@@ -9,7 +9,7 @@ import org.springframework.validation.Validator;
 @RequiredArgsConstructor
 public class SignUpFormValidator implements Validator {
 
-    private final AccountRepository accountRepository;
+    private final AccountNameFilter accountNameFilter;
 
     @Override
     public boolean supports(Class<?> aClass) {
@@ -19,11 +19,11 @@ public class SignUpFormValidator implements Validator {
     @Override
     public void validate(Object object, Errors errors) {
         SignUpForm signUpForm = (SignUpForm) object;
-        if (accountRepository.existsByEmail(signUpForm.getEmail())) {
+        if (accountNameFilter.isEmailTaken(signUpForm.getEmail())) {
             errors.rejectValue("email", "invalid.email", new Object[]{signUpForm.getEmail()}, "이미 사용중인 이메일입니다.");
         }
 
-        if (accountRepository.existsByNickname(signUpForm.getNickname())) {
+        if (accountNameFilter.isNicknameTaken(signUpForm.getNickname())) {
             errors.rejectValue("nickname", "invalid.nickname", new Object[]{signUpForm.getEmail()}, "이미 사용중인 닉네임입니다.");
         }
     }
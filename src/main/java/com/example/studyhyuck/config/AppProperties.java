@@ -3,12 +3,19 @@ package com.example.studyhyuck.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotBlank;
 
 @Data
 @Component
+@Validated
 @ConfigurationProperties("app")
 public class AppProperties {
 
     private String host;
 
+    @NotBlank
+    private String checkInSecret;
+
 }
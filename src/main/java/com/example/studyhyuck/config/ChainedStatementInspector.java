@@ -0,0 +1,30 @@
+package com.example.studyhyuck.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Map;
+
+/**
+ * Hibernate 에는 StatementInspector 를 하나만 등록할 수 있어서, 이미 등록된 것이 있으면 그 뒤에 이어 붙인다.
+ */
+class ChainedStatementInspector implements StatementInspector {
+
+    private final StatementInspector first;
+    private final StatementInspector second;
+
+    private ChainedStatementInspector(StatementInspector first, StatementInspector second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    static void register(Map<String, Object> hibernateProperties, StatementInspector inspector) {
+        hibernateProperties.merge(AvailableSettings.STATEMENT_INSPECTOR, inspector,
+                (registered, added) -> new ChainedStatementInspector((StatementInspector) registered, (StatementInspector) added));
+    }
+
+    @Override
+    public String inspect(String sql) {
+        return second.inspect(first.inspect(sql));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.studyhyuck.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * app.datasource.replicas 가 있으면 spring.datasource(primary)와 replica 풀을 {@link ReplicaRoutingDataSource} 로 묶는다.
+ * 없으면 이 설정은 빠지고 스프링 부트가 만드는 DataSource 하나만 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas[0].url")
+@EnableConfigurationProperties({DataSourceProperties.class, ReplicaProperties.class})
+public class DataSourceConfig {
+
+    @Bean
+    public ReadYourWrites readYourWrites(ReplicaProperties replicaProperties) {
+        return new ReadYourWrites(replicaProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer readYourWritesInspector(ReadYourWrites readYourWrites) {
+        return hibernateProperties -> ChainedStatementInspector.register(hibernateProperties, readYourWrites);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties,
+                                               ReadYourWrites readYourWrites, Environment environment,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        // 스프링 부트는 DataSource 빈이 HikariDataSource 일 때만 풀 메트릭을 붙이므로, 감싼 풀들은 여기서 직접 붙인다
+        meterRegistry.ifAvailable(primary::setMetricRegistry);
+
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getReplicas().size(); i++) {
+            ReplicaProperties.Replica properties = replicaProperties.getReplicas().get(i);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(properties.getUrl());
+            replica.setUsername(properties.getUsername());
+            replica.setPassword(properties.getPassword());
+            if (properties.getDriverClassName() != null) {
+                replica.setDriverClassName(properties.getDriverClassName());
+            }
+            replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+            replica.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            replica.setReadOnly(true);
+            // replica 가 내려가 있어도 애플리케이션은 뜨고, 그동안은 primary 에서 읽는다
+            replica.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(replica::setMetricRegistry);
+            replicas.add(new ReplicaRoutingDataSource.Replica(replica, properties.getLagQuery()));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, replicaProperties.getMaxLag(), readYourWrites);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.studyhyuck.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Hibernate 가 보내는 SQL 중 insert/update/delete 를 보고, 그 트랜잭션이 커밋되면 세션에 "언제까지 primary 에서 읽을지" 를 적어 둔다.
+ * 그동안은 같은 세션의 읽기 전용 트랜잭션도 primary 로 보내서 복제가 늦어도 방금 쓴 값이 보이게 한다.
+ * JdbcTemplate 으로 직접 쓰는 SQL 은 보지 못한다.
+ */
+public class ReadYourWrites implements StatementInspector {
+
+    static final String PRIMARY_UNTIL = ReadYourWrites.class.getName() + ".PRIMARY_UNTIL";
+
+    private final Duration window;
+
+    public ReadYourWrites(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (isWrite(sql) && TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.getSynchronizations().stream().noneMatch(PinAfterCommit.class::isInstance)) {
+            TransactionSynchronizationManager.registerSynchronization(new PinAfterCommit());
+        }
+        return sql;
+    }
+
+    public boolean isPinnedToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+
+        Object primaryUntil = attributes.getAttribute(PRIMARY_UNTIL, RequestAttributes.SCOPE_SESSION);
+        return primaryUntil instanceof Long && System.currentTimeMillis() < (Long) primaryUntil;
+    }
+
+    public void pinToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(PRIMARY_UNTIL, System.currentTimeMillis() + window.toMillis(), RequestAttributes.SCOPE_SESSION);
+        }
+    }
+
+    private static boolean isWrite(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return statement.startsWith("insert") || statement.startsWith("update") || statement.startsWith("delete")
+                || statement.startsWith("merge");
+    }
+
+    private class PinAfterCommit implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            pinToPrimary();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.studyhyuck.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 복제(replica) DB. 하나도 없으면 spring.datasource 하나만 쓴다.
+ * <pre>
+ * app.datasource.replicas[0].url=jdbc:mariadb://replica1:3306/lhg
+ * app.datasource.replicas[0].username=lhg1304
+ * app.datasource.replicas[0].password=lhg1304
+ * app.datasource.replicas[0].lag-query=select timestampdiff(second, ts, now()) from heartbeat
+ * </pre>
+ */
+@Data
+@ConfigurationProperties("app.datasource")
+public class ReplicaProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 복제 지연이 이보다 크면 따라잡을 때까지 그 replica 로 보내지 않는다.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * 같은 세션에서 DB 에 쓴 뒤 이 시간 동안은 읽기 전용 트랜잭션도 primary 로 보내서 방금 쓴 값을 읽게 한다.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private String driverClassName;
+
+        private int maximumPoolSize = 10;
+
+        /**
+         * 응답이 없는 replica 에서 커넥션을 기다리는 시간. 넘기면 그 요청은 primary 로 보낸다.
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 복제 지연(초)을 숫자 하나로 돌려주는 쿼리. 비우면 살아 있는지만 본다.
+         * 예) PostgreSQL: select coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+         */
+        private String lagQuery;
+    }
+}
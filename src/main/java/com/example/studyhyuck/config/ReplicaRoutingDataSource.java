@@ -0,0 +1,184 @@
+package com.example.studyhyuck.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 읽기 전용 트랜잭션은 살아 있고 복제 지연이 maxLag 이내인 replica 에 돌아가며 보내고, 나머지는 primary 로 보낸다.
+ * 쓸 수 있는 replica 가 없거나, 같은 세션에서 방금 DB 에 썼거나({@link ReadYourWrites}), 트랜잭션이 {@link #readFromPrimary()} 를 불렀거나,
+ * replica 에서 커넥션을 얻지 못하면 primary 로 보낸다.
+ * 트랜잭션이 읽기 전용인지는 트랜잭션이 시작된 뒤에야 알 수 있으므로 {@link LazyConnectionDataSourceProxy} 로서
+ * 첫 쿼리를 보낼 때 커넥션을 고른다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private static final String PRIMARY_HINT = ReplicaRoutingDataSource.class.getName() + ".PRIMARY_HINT";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final ReadYourWrites readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<Replica> replicas, Duration maxLag, ReadYourWrites readYourWrites) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.readYourWrites = readYourWrites;
+        setTargetDataSource(new Router());
+        checkReplicas();
+    }
+
+    /**
+     * 지금 커넥션을 달라고 하면 보낼 곳의 이름. primary 또는 replica 의 풀 이름.
+     */
+    public String determineCurrentLookupKey() {
+        Replica replica = determineReplica();
+        return replica == null ? PRIMARY : replica.dataSource.getPoolName();
+    }
+
+    /**
+     * 지금 트랜잭션이 아직 커넥션을 얻지 않았다면 읽기 전용이어도 primary 에서 읽게 한다.
+     * 읽은 값을 캐시에 담아 오래 쓸 때처럼 복제 지연으로 낡은 값이 남으면 안 되는 읽기 전에 부른다.
+     * replica 를 쓰지 않거나 트랜잭션 밖이면 아무 일도 하지 않는다.
+     */
+    public static void readFromPrimary() {
+        if (TransactionSynchronizationManager.isSynchronizationActive() && !TransactionSynchronizationManager.hasResource(PRIMARY_HINT)) {
+            TransactionSynchronizationManager.bindResource(PRIMARY_HINT, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new PrimaryHint());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.datasource.health-check-interval:5000}",
+            fixedDelayString = "${app.datasource.health-check-interval:5000}")
+    public void checkReplicas() {
+        replicas.forEach(replica -> replica.check(maxLag));
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private Replica determineReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || readYourWrites.isPinnedToPrimary()
+                || TransactionSynchronizationManager.hasResource(PRIMARY_HINT)) {
+            return null;
+        }
+
+        List<Replica> available = replicas.stream().filter(replica -> replica.available).collect(Collectors.toList());
+        if (available.isEmpty()) {
+            return null;
+        }
+        return available.get(Math.floorMod(next.getAndIncrement(), available.size()));
+    }
+
+    /**
+     * 트랜잭션이 끝나면 표시를 지우고, 안쪽에서 새 트랜잭션이 열리는 동안에는 잠시 떼어 둔다.
+     */
+    private static class PrimaryHint implements TransactionSynchronization {
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_HINT);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(PRIMARY_HINT, Boolean.TRUE);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_HINT);
+        }
+    }
+
+    private class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Replica replica = determineReplica();
+            if (replica != null) {
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException e) {
+                    replica.markDown(e.getMessage());
+                }
+            }
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return primary.getConnection(username, password);
+        }
+    }
+
+    public static class Replica {
+
+        private final HikariDataSource dataSource;
+        private final String lagQuery;
+        private volatile boolean available;
+
+        public Replica(HikariDataSource dataSource, String lagQuery) {
+            this.dataSource = dataSource;
+            this.lagQuery = lagQuery;
+        }
+
+        private void check(Duration maxLag) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(Math.max(1, (int) maxLag.getSeconds()));
+                if (lagQuery == null) {
+                    statement.execute("select 1");
+                    markUp();
+                    return;
+                }
+
+                try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : Double.MAX_VALUE;
+                    if (lagSeconds * 1000 > maxLag.toMillis()) {
+                        markDown("replication lag " + lagSeconds + "s");
+                    } else {
+                        markUp();
+                    }
+                }
+            } catch (SQLException e) {
+                markDown(e.getMessage());
+            }
+        }
+
+        private void markUp() {
+            if (!available) {
+                log.info("replica {} is available", dataSource.getPoolName());
+            }
+            available = true;
+        }
+
+        private void markDown(String reason) {
+            if (available) {
+                log.warn("replica {} is unavailable, reading from primary: {}", dataSource.getPoolName(), reason);
+            }
+            available = false;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.studyhyuck.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(OptimisticLockingFailureException)이 나면 새 트랜잭션으로 다시 실행한다.
+ * 여러 번 실행해도 결과가 같은 메서드에만 붙이고, 메서드 안에서 엔티티를 다시 읽어야 한다.
+ * 시도 사이에는 0 ~ backoffMillis * 2^(시도 횟수 - 1) 사이에서 무작위로 기다려서 같은 스레드끼리 다시 부딪히지 않게 한다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RetryOnConflict {
+
+    int maxAttempts() default 5;
+
+    long backoffMillis() default 20;
+}
@@ -0,0 +1,44 @@
+package com.example.studyhyuck.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 트랜잭션 어드바이스보다 바깥에서 실행되어야 시도마다 새 트랜잭션이 열린다.
+ * 이미 바깥 트랜잭션 안에서 호출된 경우에는 다시 시도해도 같은 충돌이 나므로 그대로 실행만 한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class RetryOnConflictAspect {
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retryOnConflict.maxAttempts()) {
+                    throw e;
+                }
+                log.debug("{} 충돌로 다시 시도합니다. ({}/{})", joinPoint.getSignature().toShortString(),
+                        attempt, retryOnConflict.maxAttempts());
+                Thread.sleep(ThreadLocalRandom.current().nextLong((retryOnConflict.backoffMillis() << (attempt - 1)) + 1));
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.studyhyuck.config;
 
 import com.example.studyhyuck.account.AccountService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,7 +29,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         http.authorizeRequests()
                 .mvcMatchers("/", "/login", "/sign-up", "check-email-token",
                         "/email-login", "/check-email-login", "/login-link").permitAll()
-                .mvcMatchers(HttpMethod.GET, "/profile/*").permitAll()
+                .mvcMatchers(HttpMethod.GET, "/profile/*", "/profile/*/image", "/study/*/events.ics", "/account/*/calendar.ics", "/search/study",
+                        "/sign-up/availability").permitAll()
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()   // 관리 포트는 localhost 에서만 열림
                 .anyRequest().authenticated();
 
         http.formLogin()
@@ -0,0 +1,46 @@
+package com.example.studyhyuck.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 처리에서 자주 불리는 서비스 메소드의 실행 시간을 service.method 타이머로 남긴다.
+ * 트랜잭션 어드바이스와 {@link RetryOnConflictAspect} 보다 바깥에서 실행되어 커밋과 재시도에 걸린 시간도 포함한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@RequiredArgsConstructor
+public class ServiceTimerAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.example.studyhyuck.study.StudyService) " +
+            "|| within(com.example.studyhyuck.event.EventService) " +
+            "|| execution(* com.example.studyhyuck.account.AccountService.loadUserByUsername(..)) " +
+            "|| execution(* com.example.studyhyuck.mail.EmailService+.sendEmail(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("service.method")
+                    .description("Execution time of service methods on hot paths")
+                    .tag("class", joinPoint.getTarget().getClass().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
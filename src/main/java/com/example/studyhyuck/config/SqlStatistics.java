@@ -0,0 +1,129 @@
+package com.example.studyhyuck.config;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나를 처리하는 동안 Hibernate 가 보낸 SQL 수, JDBC 실행 시간, 읽어 들인 엔티티 수, 같은 SQL 을 보낸 횟수를 센다.
+ * {@link #start()} 부터 {@link #stop()} 까지 같은 스레드에서 실행된 것만 세고, JdbcTemplate 으로 직접 보내는 SQL 은 세지 않는다.
+ */
+public class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> current = new ThreadLocal<>();
+
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int statements;
+    private long jdbcNanos;
+    private int loadedEntities;
+
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics();
+        current.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatistics stop() {
+        SqlStatistics statistics = current.get();
+        current.remove();
+        return statistics;
+    }
+
+    /**
+     * 읽어 들인 엔티티 수를 세는 리스너를 붙인다. SQL 과 JDBC 실행 시간은 {@link Inspector} 와 {@link JdbcTimeListener} 가 센다.
+     */
+    public static void registerListeners(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> {
+            SqlStatistics statistics = current.get();
+            if (statistics != null) {
+                statistics.loadedEntities++;
+            }
+        });
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    public int getLoadedEntities() {
+        return loadedEntities;
+    }
+
+    /**
+     * threshold 번 이상 보낸 SQL 과 그 횟수. 파라미터만 바꿔서 같은 SQL 을 여러 번 보냈다면 대개 N+1 이다.
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statementCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    /**
+     * Hibernate 가 PreparedStatement 를 만들 때마다 불린다. JDBC 배치는 한 번으로 센다.
+     */
+    public static class Inspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            SqlStatistics statistics = current.get();
+            if (statistics != null) {
+                statistics.statements++;
+                statistics.statementCounts.merge(sql, 1, Integer::sum);
+            }
+            return sql;
+        }
+    }
+
+    /**
+     * hibernate.session.events.auto 로 세션마다 하나씩 만들어진다.
+     */
+    public static class JdbcTimeListener extends BaseSessionEventListener {
+
+        private long startedAt;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            startedAt = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            addJdbcTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            startedAt = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            addJdbcTime();
+        }
+
+        private void addJdbcTime() {
+            SqlStatistics statistics = current.get();
+            if (statistics != null) {
+                statistics.jdbcNanos += System.nanoTime() - startedAt;
+            }
+        }
+    }
+}
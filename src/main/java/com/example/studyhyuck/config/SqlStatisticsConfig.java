@@ -0,0 +1,34 @@
+package com.example.studyhyuck.config;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SqlStatisticsProperties.class)
+public class SqlStatisticsConfig implements WebMvcConfigurer {
+
+    private final SqlStatisticsInterceptor sqlStatisticsInterceptor;
+
+    /**
+     * EntityManagerFactory 를 만들 때 쓰이므로, EntityManagerFactory 가 필요한 이 설정 객체 없이 만들 수 있게 static 으로 둔다.
+     */
+    @Bean
+    public static HibernatePropertiesCustomizer sqlStatisticsCustomizer() {
+        return hibernateProperties -> {
+            ChainedStatementInspector.register(hibernateProperties, new SqlStatistics.Inspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatistics.JdbcTimeListener.class.getName());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlStatisticsInterceptor);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.studyhyuck.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.persistence.EntityManagerFactory;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * 컨트롤러 메소드 하나를 처리하는 동안의 {@link SqlStatistics} 를 핸들러 이름(StudyController.viewStudy)별 메트릭으로 남기고,
+ * 기준을 넘거나 N+1 로 보이면 경고 로그를 남긴다. 테스트에서 꺼내 볼 수 있게 요청 속성에도 넣어 둔다.
+ */
+@Slf4j
+@Component
+public class SqlStatisticsInterceptor implements HandlerInterceptor {
+
+    public static final String ATTRIBUTE = SqlStatistics.class.getName();
+
+    private final SqlStatisticsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatisticsInterceptor(SqlStatisticsProperties properties, MeterRegistry meterRegistry,
+                                    EntityManagerFactory entityManagerFactory) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        SqlStatistics.registerListeners(entityManagerFactory);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            SqlStatistics.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod)) {
+            return;
+        }
+
+        SqlStatistics statistics = SqlStatistics.stop();
+        if (statistics == null) {
+            return;
+        }
+        request.setAttribute(ATTRIBUTE, statistics);
+
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        String handlerName = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        record(handlerName, statistics);
+
+        if (statistics.getStatements() > properties.getMaxStatements()
+                || statistics.getJdbcTime().compareTo(properties.getMaxJdbcTime()) > 0) {
+            log.warn("{} issued {} statements in {} ms of JDBC time and loaded {} entities: {} {}", handlerName,
+                    statistics.getStatements(), statistics.getJdbcTime().toMillis(), statistics.getLoadedEntities(),
+                    request.getMethod(), request.getRequestURI());
+        }
+        for (Map.Entry<String, Integer> repeated : statistics.getRepeatedStatements(properties.getRepeatedStatementThreshold()).entrySet()) {
+            log.warn("{} issued the same statement {} times, possible N+1: {}", handlerName, repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    private void record(String handlerName, SqlStatistics statistics) {
+        DistributionSummary.builder("sql.statements")
+                .description("SQL statements issued per request")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        Timer.builder("sql.jdbc.time")
+                .description("Total JDBC execution time per request")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(statistics.getJdbcTime());
+        DistributionSummary.builder("sql.entities.loaded")
+                .description("Entities loaded per request")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(statistics.getLoadedEntities());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.studyhyuck.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 요청 하나가 이 값들을 넘으면 핸들러 이름과 함께 경고 로그를 남긴다.
+ */
+@Data
+@ConfigurationProperties("app.sql-statistics")
+public class SqlStatisticsProperties {
+
+    /**
+     * 요청 하나에서 보낸 SQL 수
+     */
+    private int maxStatements = 20;
+
+    /**
+     * 요청 하나에서 JDBC 실행에 쓴 시간의 합
+     */
+    private Duration maxJdbcTime = Duration.ofMillis(500);
+
+    /**
+     * 같은 SQL 을 이만큼 보내면 N+1 로 본다.
+     */
+    private int repeatedStatementThreshold = 5;
+
+}
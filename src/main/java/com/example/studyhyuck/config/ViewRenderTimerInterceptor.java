@@ -0,0 +1,51 @@
+package com.example.studyhyuck.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.view.UrlBasedViewResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 컨트롤러가 돌려준 뷰(Thymeleaf 템플릿)를 그리는 데 걸린 시간을 템플릿 이름별 view.render 타이머로 남긴다.
+ * postHandle 다음에 뷰를 그리고 afterCompletion 이 불리므로 그 사이의 시간을 잰다. 리다이렉트와 포워드는 재지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewRenderTimerInterceptor implements HandlerInterceptor {
+
+    private static final String SAMPLE = ViewRenderTimerInterceptor.class.getName() + ".SAMPLE";
+    private static final String VIEW_NAME = ViewRenderTimerInterceptor.class.getName() + ".VIEW_NAME";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null || modelAndView.getViewName() == null
+                || modelAndView.getViewName().startsWith(UrlBasedViewResolver.REDIRECT_URL_PREFIX)
+                || modelAndView.getViewName().startsWith(UrlBasedViewResolver.FORWARD_URL_PREFIX)) {
+            return;
+        }
+        request.setAttribute(VIEW_NAME, modelAndView.getViewName());
+        request.setAttribute(SAMPLE, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Timer.Sample sample = (Timer.Sample) request.getAttribute(SAMPLE);
+        if (sample == null) {
+            return;
+        }
+        request.removeAttribute(SAMPLE);
+        sample.stop(Timer.builder("view.render")
+                .description("Time to render a view template")
+                .tag("view", (String) request.getAttribute(VIEW_NAME))
+                .tag("exception", ex == null ? "none" : ex.getClass().getSimpleName())
+                .register(meterRegistry));
+    }
+}
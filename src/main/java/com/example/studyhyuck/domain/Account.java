@@ -8,12 +8,18 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+@NamedEntityGraph(name = "Account.withTags", attributeNodes = {
+        @NamedAttributeNode("tags")})
+@NamedEntityGraph(name = "Account.withZones", attributeNodes = {
+        @NamedAttributeNode("zones")})
 @Entity
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @AllArgsConstructor @NoArgsConstructor
 public class Account {
 
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
+    @SequenceGenerator(name = "account_seq", sequenceName = "account_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -56,9 +62,11 @@ public class Account {
     private boolean studyUpdatedByWeb = true;
 
     @ManyToMany
+    @JoinTable(name = "account_tags", indexes = @Index(name = "idx_account_tags_tag", columnList = "tags_id,account_id"))
     private Set<Tag> tags = new HashSet<>();
 
     @ManyToMany
+    @JoinTable(name = "account_zones", indexes = @Index(name = "idx_account_zones_zone", columnList = "zones_id,account_id"))
     private Set<Zone> zones = new HashSet<>();
 
     public void generateEmailCheckToken() {
@@ -78,8 +86,4 @@ public class Account {
     public boolean canSendConfirmEmail() {
         return this.emailCheckTokenGenerateAt.isBefore(LocalDateTime.now().minusHours(1));
     }
-
-    public boolean isManagerOf(Study study) {
-        return study.getManagers().contains(this);
-    }
 }
@@ -5,6 +5,7 @@ import com.example.studyhyuck.event.EventType;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.OptimisticLock;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -14,13 +15,21 @@ import java.util.List;
         name = "Event.withEnrollments",
         attributeNodes = @NamedAttributeNode("enrollments")
 )
+@Table(indexes = {
+        @Index(name = "idx_event_study_start", columnList = "study_id,startDateTime"),
+        @Index(name = "idx_event_study_end", columnList = "study_id,endDateTime")})
 @Entity
 @Getter @Setter @EqualsAndHashCode(of = "id")
 public class Event {
 
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @ManyToOne
     private Study study;
 
@@ -48,6 +57,7 @@ public class Event {
     private Integer limitOfEnrollments;
 
     @OneToMany(mappedBy = "event")
+    @OptimisticLock(excluded = true)
     private List<Enrollment> enrollments;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,32 @@
+package com.example.studyhyuck.domain;
+
+import com.example.studyhyuck.event.reminder.EventReminderType;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Table(indexes = @Index(name = "idx_event_reminder_fire", columnList = "sentDateTime,fireDateTime"))
+@Entity
+@Getter @Setter @EqualsAndHashCode(of = "id")
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class EventReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_reminder_seq")
+    @SequenceGenerator(name = "event_reminder_seq", sequenceName = "event_reminder_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Event event;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventReminderType reminderType;
+
+    @Column(nullable = false)
+    private LocalDateTime fireDateTime;
+
+    private LocalDateTime sentDateTime;
+
+}
@@ -6,10 +6,11 @@ import lombok.Setter;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import java.time.LocalDateTime;
 
-@Table(name = "persistent_logins")
+@Table(name = "persistent_logins", indexes = @Index(name = "idx_persistent_logins_username", columnList = "username"))
 @Entity
 @Getter @Setter
 public class PersistentLogins {
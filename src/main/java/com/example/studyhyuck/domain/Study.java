@@ -1,42 +1,50 @@
 package com.example.studyhyuck.domain;
 
-import com.example.studyhyuck.account.UserAccount;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OptimisticLock;
 
 import javax.persistence.*;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
-@NamedEntityGraph(name = "Study.withAll", attributeNodes = {
-        @NamedAttributeNode("tags"),
-        @NamedAttributeNode("zones"),
-        @NamedAttributeNode("managers"),
-        @NamedAttributeNode("members")})
-
-@NamedEntityGraph(name = "Study.withTagsAndManagers", attributeNodes = {
-        @NamedAttributeNode("tags"),
-        @NamedAttributeNode("managers")})
-@NamedEntityGraph(name = "Study.withZonesAndManagers", attributeNodes = {
-        @NamedAttributeNode("zones"),
-        @NamedAttributeNode("managers")})
-@NamedEntityGraph(name = "Study.withManagers", attributeNodes = {
-        @NamedAttributeNode("managers")})
+@NamedEntityGraph(name = "Study.withTags", attributeNodes = {
+        @NamedAttributeNode("tags")})
+@NamedEntityGraph(name = "Study.withZones", attributeNodes = {
+        @NamedAttributeNode("zones")})
+@Table(indexes = {
+        @Index(name = "idx_study_published_date", columnList = "published,publishedDateTime,id"),
+        @Index(name = "idx_study_published_member_count", columnList = "published,memberCount,id")})
 @Entity
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @AllArgsConstructor @NoArgsConstructor
 public class Study {
 
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "study_seq")
+    @SequenceGenerator(name = "study_seq", sequenceName = "study_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
+    @BatchSize(size = 100)
     @ManyToMany
+    @JoinTable(name = "study_managers", indexes = @Index(name = "idx_study_managers_account", columnList = "managers_id,study_id"))
     private Set<Account> managers = new HashSet<>();
 
-    @ManyToMany
-    private Set<Account> members = new HashSet<>();
+    /**
+     * 조회 전용. study_members 테이블은 {@link StudyMember} 만 매핑하고, 가입과 탈퇴는 StudyMemberRepository 로 한다.
+     */
+    @BatchSize(size = 100)
+    @OneToMany(mappedBy = "study")
+    @OptimisticLock(excluded = true)
+    private List<StudyMember> members = new ArrayList<>();
 
     @Column(unique = true)
     private String path;
@@ -51,10 +59,14 @@ public class Study {
     @Lob @Basic(fetch = FetchType.EAGER)
     private String image;
 
+    @BatchSize(size = 100)
     @ManyToMany
+    @JoinTable(name = "study_tags", indexes = @Index(name = "idx_study_tags_tag", columnList = "tags_id,study_id"))
     private Set<Tag> tags = new HashSet<>();
 
+    @BatchSize(size = 100)
     @ManyToMany
+    @JoinTable(name = "study_zones", indexes = @Index(name = "idx_study_zones_zone", columnList = "zones_id,study_id"))
     private Set<Zone> zones = new HashSet<>();
 
     private LocalDateTime publishedDateTime;
@@ -63,6 +75,9 @@ public class Study {
 
     private LocalDateTime recruitingUpdatedDateTime;
 
+    @OptimisticLock(excluded = true)
+    private LocalDateTime eventsUpdatedDateTime;
+
     private boolean recruiting;
 
     private boolean published;
@@ -71,26 +86,16 @@ public class Study {
 
     private boolean useBanner;
 
+    /**
+     * 가입/탈퇴 때 StudyRepository 의 update 쿼리로만 바꾼다. 엔티티를 저장할 때 읽어 둔 값으로 덮어쓰지 않도록 updatable = false.
+     */
+    @Column(updatable = false)
     private int memberCount;
 
     public void addManager(Account account) {
         this.managers.add(account);
     }
 
-    public boolean isJoinable(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        return this.isPublished() && this.isRecruiting()
-                && !this.members.contains(account) && !this.managers.contains(account);
-    }
-
-    public boolean isMember(UserAccount userAccount) {
-        return this.members.contains(userAccount.getAccount());
-    }
-
-    public boolean isManager(UserAccount userAccount) {
-        return this.managers.contains(userAccount.getAccount());
-    }
-
 
     public String getImage() {
         return image != null ? image : "/images/default_banner.png";
@@ -140,21 +145,7 @@ public class Study {
         return !this.published; // TODO 모임을 했던 스터디는 삭제할 수 없다.
     }
 
-    public void addMember(Account account) {
-        this.getMembers().add(account);
-        this.memberCount++;
-    }
-
-    public void removeMember(Account account) {
-        this.getMembers().remove(account);
-        this.memberCount--;
-    }
-
     public String getEncodedPath() {
         return URLEncoder.encode(this.path, StandardCharsets.UTF_8);
     }
-
-    public boolean isManagedBy(Account account) {
-        return this.getManagers().contains(account);
-    }
 }
@@ -0,0 +1,46 @@
+package com.example.studyhyuck.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 스터디 구성원. study_members 테이블을 매핑하는 유일한 엔티티로 가입 시각을 함께 기록한다.
+ * Study.members 는 이 엔티티의 반대편(mappedBy)이라 조인 테이블에 쓰지 않는다.
+ */
+@Entity
+@Table(name = "study_members", indexes = {
+        @Index(name = "idx_study_members_account", columnList = "members_id,study_id"),
+        @Index(name = "idx_study_members_joined", columnList = "study_id,joinedDateTime,members_id")})
+@IdClass(StudyMember.Key.class)
+@Getter @EqualsAndHashCode(of = {"study", "account"})
+@NoArgsConstructor
+public class StudyMember {
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "study_id")
+    private Study study;
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "members_id")
+    private Account account;
+
+    @Column(nullable = false)
+    private LocalDateTime joinedDateTime;
+
+    @Getter @EqualsAndHashCode
+    @NoArgsConstructor @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long study;
+
+        private Long account;
+    }
+}
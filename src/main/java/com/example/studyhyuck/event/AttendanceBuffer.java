@@ -0,0 +1,70 @@
+package com.example.studyhyuck.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 체크인 요청을 메모리에 모아 두었다가 일정 주기로 한 번에 반영한다. (write-behind)
+ * 여러 기기에서 동시에 체크인해도 Enrollment 행마다 UPDATE 가 경합하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceBuffer {
+
+    static final int BATCH_SIZE = 500;
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public void record(Long enrollmentId) {
+        pending.add(enrollmentId);
+    }
+
+    public boolean isPending(Long enrollmentId) {
+        return pending.contains(enrollmentId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.check-in-flush-interval:1000}")
+    public void flush() {
+        List<Long> batch = new ArrayList<>(BATCH_SIZE);
+        Iterator<Long> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+            if (batch.size() == BATCH_SIZE) {
+                write(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<Long> batch) {
+        try {
+            int updated = enrollmentRepository.markAttended(batch);
+            log.debug("checked in {} of {} enrollments", updated, batch.size());
+        } catch (RuntimeException e) {
+            log.error("failed to flush check-ins, will retry", e);
+            pending.addAll(batch);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+}
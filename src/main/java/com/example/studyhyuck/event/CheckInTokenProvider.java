@@ -0,0 +1,79 @@
+package com.example.studyhyuck.event;
+
+import com.example.studyhyuck.config.AppProperties;
+import com.example.studyhyuck.domain.Enrollment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+/**
+ * 참가 신청마다 "enrollmentId.eventId.만료시각.서명" 형태의 체크인 토큰을 발급한다.
+ * 서명은 HMAC-SHA256 이므로 DB 를 조회하지 않고도 토큰의 유효성을 확인할 수 있다.
+ * 만료 시각(epoch 초)도 서명에 포함되므로 모임이 끝난 뒤에는 같은 토큰으로 체크인할 수 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CheckInTokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final AppProperties appProperties;
+
+    public String issue(Enrollment enrollment) {
+        return issue(enrollment.getId(), enrollment.getEvent().getId(), enrollment.getEvent().getEndDateTime());
+    }
+
+    public String issue(Long enrollmentId, Long eventId, LocalDateTime expiresAt) {
+        String payload = enrollmentId + "." + eventId + "." + expiresAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return payload + "." + sign(payload);
+    }
+
+    /**
+     * 토큰이 해당 모임에 대해 발급됐고 아직 만료되지 않았으면 참가 신청 id 를, 아니면 null 을 반환한다.
+     */
+    public Long verify(String token, Long eventId) {
+        if (token == null) {
+            return null;
+        }
+
+        String[] parts = token.split("\\.");
+        if (parts.length != 4 || !parts[1].equals(String.valueOf(eventId))) {
+            return null;
+        }
+
+        String payload = parts[0] + "." + parts[1] + "." + parts[2];
+        byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, parts[3].getBytes(StandardCharsets.US_ASCII))) {
+            return null;
+        }
+
+        try {
+            if (Long.parseLong(parts[2]) < Instant.now().getEpochSecond()) {
+                return null;
+            }
+            return Long.valueOf(parts[0]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(appProperties.getCheckInSecret().getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.studyhyuck.event;
+
+import com.example.studyhyuck.domain.Enrollment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    @Query("select new com.example.studyhyuck.event.EnrollmentView(en.id, a.id, a.nickname, " +
+            "case when a.profileImage is null then false else true end, en.enrolledAt, en.accepted, en.attended) " +
+            "from Enrollment en join en.account a where en.event.id = :eventId order by en.enrolledAt")
+    List<EnrollmentView> findViewsByEventId(@Param("eventId") Long eventId);
+
+    @Transactional
+    @Modifying
+    @Query("update Enrollment e set e.attended = true where e.id in :ids and e.accepted = true and e.attended = false")
+    int markAttended(@Param("ids") Collection<Long> ids);
+
+}
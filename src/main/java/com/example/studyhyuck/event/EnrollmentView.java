@@ -0,0 +1,26 @@
+package com.example.studyhyuck.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class EnrollmentView {
+
+    private Long id;
+
+    private Long accountId;
+
+    private String nickname;
+
+    private boolean hasProfileImage;
+
+    private LocalDateTime enrolledAt;
+
+    private boolean accepted;
+
+    private boolean attended;
+
+}
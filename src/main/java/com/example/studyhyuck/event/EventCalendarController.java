@@ -0,0 +1,59 @@
+package com.example.studyhyuck.event;
+
+import com.example.studyhyuck.account.AccountService;
+import com.example.studyhyuck.domain.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Controller
+@RequiredArgsConstructor
+public class EventCalendarController {
+
+    static final String TEXT_CALENDAR = "text/calendar;charset=UTF-8";
+
+    private final EventCalendarService eventCalendarService;
+    private final AccountService accountService;
+
+    @GetMapping("/study/{path}/events.ics")
+    public void studyCalendar(@PathVariable String path, WebRequest webRequest, HttpServletResponse response)
+            throws IOException {
+        if (!eventCalendarService.existsStudyCalendar(path)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        if (isNotModified(webRequest, eventCalendarService.getStudyLastModified(path))) {
+            return;
+        }
+
+        response.setContentType(TEXT_CALENDAR);
+        eventCalendarService.writeStudyCalendar(path, response.getWriter());
+    }
+
+    @GetMapping("/account/{nickname}/calendar.ics")
+    public void accountCalendar(@PathVariable String nickname, WebRequest webRequest, HttpServletResponse response)
+            throws IOException {
+        Account account = accountService.getAccount(nickname);
+        if (webRequest.checkNotModified(eventCalendarService.getAccountETag(account))) {
+            return;
+        }
+
+        response.setContentType(TEXT_CALENDAR);
+        eventCalendarService.writeAccountCalendar(account, response.getWriter());
+    }
+
+    private boolean isNotModified(WebRequest webRequest, LocalDateTime lastModified) {
+        if (lastModified == null) {
+            return false;
+        }
+        return webRequest.checkNotModified(lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
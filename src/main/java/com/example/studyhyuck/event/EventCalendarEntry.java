@@ -0,0 +1,24 @@
+package com.example.studyhyuck.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class EventCalendarEntry {
+
+    private Long id;
+
+    private String title;
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endDateTime;
+
+    private String studyPath;
+
+    private String studyTitle;
+
+}
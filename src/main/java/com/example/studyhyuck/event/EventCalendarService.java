@@ -0,0 +1,136 @@
+package com.example.studyhyuck.event;
+
+import com.example.studyhyuck.config.AppProperties;
+import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.study.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.stream.Stream;
+
+/**
+ * 모임 일정을 iCalendar(RFC 5545) 형식으로 응답에 바로 써준다.
+ * 모임을 엔티티로 한 번에 읽지 않고 필요한 컬럼만 커서로 읽어서 흘려 보낸다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EventCalendarService {
+
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final EventRepository eventRepository;
+    private final AppProperties appProperties;
+    private final StudyRepository studyRepository;
+
+    public boolean existsStudyCalendar(String path) {
+        return studyRepository.existsByPathAndPublishedTrue(path);
+    }
+
+    public LocalDateTime getStudyLastModified(String path) {
+        return eventRepository.findEventsUpdatedDateTimeByStudyPath(path);
+    }
+
+    /**
+     * 계정 캘린더에 들어가는 스터디 목록은 가입/탈퇴로도 바뀌므로 모임 수정 시각만으로는 검증할 수 없다.
+     * 스터디 id 목록과 그 스터디들의 마지막 모임 수정 시각을 합쳐서 ETag 를 만든다.
+     */
+    public String getAccountETag(Account account) {
+        List<Long> studyIds = eventRepository.findCalendarStudyIdsByAccount(account);
+        LocalDateTime lastModified = eventRepository.findEventsUpdatedDateTimeByAccount(account);
+
+        CRC32 crc = new CRC32();
+        for (Long studyId : studyIds) {
+            crc.update(studyId.toString().getBytes(StandardCharsets.US_ASCII));
+            crc.update(',');
+        }
+        long lastModifiedMillis = lastModified == null ? 0
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return "\"" + studyIds.size() + "-" + Long.toHexString(crc.getValue()) + "-" + Long.toHexString(lastModifiedMillis) + "\"";
+    }
+
+    public void writeStudyCalendar(String path, Writer writer) {
+        try (Stream<EventCalendarEntry> entries = eventRepository.streamCalendarEntriesByStudyPath(path)) {
+            write(path, entries.iterator(), writer);
+        }
+    }
+
+    public void writeAccountCalendar(Account account, Writer writer) {
+        try (Stream<EventCalendarEntry> entries = eventRepository.streamCalendarEntriesByAccount(account)) {
+            write(account.getNickname(), entries.iterator(), writer);
+        }
+    }
+
+    private void write(String calendarName, Iterator<EventCalendarEntry> entries, Writer writer) {
+        String dtStamp = format(LocalDateTime.now());
+        try {
+            line(writer, "BEGIN:VCALENDAR");
+            line(writer, "VERSION:2.0");
+            line(writer, "PRODID:-//Study-Hyuck//Events//KO");
+            line(writer, "CALSCALE:GREGORIAN");
+            line(writer, "X-WR-CALNAME:" + escape(calendarName));
+            while (entries.hasNext()) {
+                EventCalendarEntry entry = entries.next();
+                String url = appProperties.getHost() + "/study/"
+                        + URLEncoder.encode(entry.getStudyPath(), StandardCharsets.UTF_8) + "/events/" + entry.getId();
+                line(writer, "BEGIN:VEVENT");
+                line(writer, "UID:event-" + entry.getId() + "@study-hyuck");
+                line(writer, "DTSTAMP:" + dtStamp);
+                line(writer, "DTSTART:" + format(entry.getStartDateTime()));
+                line(writer, "DTEND:" + format(entry.getEndDateTime()));
+                line(writer, "SUMMARY:" + escape(entry.getTitle()));
+                line(writer, "DESCRIPTION:" + escape(entry.getStudyTitle()));
+                line(writer, "URL:" + url);
+                line(writer, "END:VEVENT");
+            }
+            line(writer, "END:VCALENDAR");
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(UTC_FORMAT);
+    }
+
+    private String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n");
+    }
+
+    /**
+     * 한 줄이 75 옥텟을 넘으면 RFC 5545 에 따라 CRLF + 공백으로 접는다.
+     */
+    private void line(Writer writer, String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            int size = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isSurrogate(c) ? 2 : 3;
+            if (octets + size > MAX_LINE_OCTETS && !Character.isLowSurrogate(c)) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(c);
+            octets += size;
+        }
+        writer.write("\r\n");
+    }
+}
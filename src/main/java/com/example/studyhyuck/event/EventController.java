@@ -6,18 +6,23 @@ import com.example.studyhyuck.domain.Event;
 import com.example.studyhyuck.domain.Study;
 import com.example.studyhyuck.event.form.EventForm;
 import com.example.studyhyuck.event.validator.EventValidator;
+import com.example.studyhyuck.study.StudyHeaderView;
 import com.example.studyhyuck.study.StudyService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Controller
@@ -25,11 +30,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EventController {
 
+    static final int PAST_EVENTS_PAGE_SIZE = 20;
+
     private final StudyService studyService;
     private final EventService eventService;
     private final ModelMapper modelMapper;
     private final EventValidator eventValidator;
     private final EventRepository eventRepository;
+    private final CheckInTokenProvider checkInTokenProvider;
+    private final AttendanceBuffer attendanceBuffer;
 
     @InitBinder("eventForm")
     public void initBinder(WebDataBinder webDataBinder) {
@@ -61,39 +70,44 @@ public class EventController {
 
     @GetMapping("/events/{id}")
     public String getEvent(@CurrentAccount Account account, @PathVariable String path, @PathVariable Long id, Model model) {
+        EventDetailView event = eventService.getEventDetail(path, id, account);
         model.addAttribute(account);
-        model.addAttribute(eventRepository.findById(id).orElseThrow());
-        model.addAttribute(studyService.getStudy(path));
+        model.addAttribute("event", event);
+        model.addAttribute("study", event.getStudy());
         return "event/view";
     }
 
     @GetMapping("/events")
-    public String viewStudyEvents(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
+    public String viewStudyEvents(@CurrentAccount Account account, @PathVariable String path,
+                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+                                  @RequestParam(required = false) Long beforeId, Model model) {
+        StudyHeaderView study = studyService.getStudyHeader(path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
+
+        LocalDateTime now = LocalDateTime.now();
+        model.addAttribute("newEvents", eventRepository.findUpcomingEvents(study.getId(), now));
+
+        List<EventSummaryView> oldEvents = eventRepository.findPastEvents(study.getId(), now,
+                before != null ? before : now, beforeId != null ? beforeId : Long.MAX_VALUE,
+                PageRequest.of(0, PAST_EVENTS_PAGE_SIZE + 1));
+        boolean hasMoreOldEvents = oldEvents.size() > PAST_EVENTS_PAGE_SIZE;
+        if (hasMoreOldEvents) {
+            oldEvents = oldEvents.subList(0, PAST_EVENTS_PAGE_SIZE);
+        }
 
-        List<Event> events = eventRepository.findByStudyOrderByStartDateTime(study);
-        List<Event> newEvents = new ArrayList<>();
-        List<Event> oldEvents = new ArrayList<>();
-        events.forEach(e -> {
-            if (e.getEndDateTime().isBefore(LocalDateTime.now())) {
-                oldEvents.add(e);
-            } else {
-                newEvents.add(e);
-            }
-        });
-
-        model.addAttribute("newEvents", newEvents);
         model.addAttribute("oldEvents", oldEvents);
+        model.addAttribute("oldEventsCount", eventRepository.countByStudyIdAndEndDateTimeBefore(study.getId(), now));
+        model.addAttribute("hasMoreOldEvents", hasMoreOldEvents);
 
         return "study/events";
     }
 
     @GetMapping("/events/{id}/edit")
     public String updateEventForm(@CurrentAccount Account account,
-                                  @PathVariable String path, @PathVariable("id") Event event, Model model) {
+                                  @PathVariable String path, @PathVariable Long id, Model model) {
         Study study = studyService.getStudyToUpdate(account, path);
+        Event event = eventService.getEventToUpdate(id);
         model.addAttribute(study);
         model.addAttribute(account);
         model.addAttribute(event);
@@ -103,9 +117,10 @@ public class EventController {
 
     @PostMapping("/events/{id}/edit")
     public String updateEventSubmit(@CurrentAccount Account account, @PathVariable String path,
-                                    @PathVariable("id") Event event, @Valid EventForm eventForm, Errors errors,
-                                    Model model) {
+                                    @PathVariable Long id, @Valid EventForm eventForm, Errors errors,
+                                    Model model, HttpServletResponse response) {
         Study study = studyService.getStudyToUpdate(account, path);
+        Event event = eventService.getEventToUpdate(id);
         eventForm.setEventType(event.getEventType());
         eventValidator.validateUpdateForm(eventForm, event, errors);
 
@@ -116,7 +131,18 @@ public class EventController {
             return "event/update-form";
         }
 
-        eventService.updateEvent(event, eventForm);
+        try {
+            eventService.updateEvent(event, eventForm);
+        } catch (OptimisticLockingFailureException e) {
+            Event current = eventService.getEventToUpdate(id);
+            eventForm.setVersion(current.getVersion());
+            response.setStatus(HttpServletResponse.SC_CONFLICT);
+            model.addAttribute(account);
+            model.addAttribute(studyService.getStudyToUpdate(account, path));
+            model.addAttribute(current);
+            model.addAttribute("message", "다른 관리자가 먼저 모임을 수정했습니다. 최신 내용을 확인하고 다시 저장하세요.");
+            return "event/update-form";
+        }
         return "redirect:/study/" + study.getEncodedPath() +  "/events/" + event.getId();
     }
 
@@ -128,6 +154,25 @@ public class EventController {
         return "redirect:/study/" + study.getEncodedPath() + "/events";
     }
 
+    @PostMapping("/events/{id}/check-in")
+    @ResponseBody
+    public ResponseEntity checkIn(@CurrentAccount Account account, @PathVariable String path, @PathVariable Long id,
+                                  String token) {
+        studyService.getStudyToUpdateStatus(account, path);
+        Event event = eventRepository.findById(id).orElse(null);
+        if (event == null || !event.getStudy().getPath().equals(path)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Long enrollmentId = checkInTokenProvider.verify(token, id);
+        if (enrollmentId == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        attendanceBuffer.record(enrollmentId);
+        return ResponseEntity.ok().build();
+    }
+
 
 
 }
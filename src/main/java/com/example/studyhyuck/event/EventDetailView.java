@@ -0,0 +1,94 @@
+package com.example.studyhyuck.event;
+
+import com.example.studyhyuck.study.StudyHeaderView;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 모임 상세 화면에서 사용하는 읽기 전용 모델.
+ * 엔티티를 화면에 넘기지 않으므로 템플릿에서 지연 로딩이 일어나지 않는다.
+ */
+@Getter
+public class EventDetailView {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final EventType eventType;
+    private final Integer limitOfEnrollments;
+    private final LocalDateTime endEnrollmentDateTime;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final String createdByNickname;
+    private final boolean createdByHasProfileImage;
+    private final StudyHeaderView study;
+
+    @Setter private List<EnrollmentView> enrollments;
+    @Setter private boolean manager;
+
+    public EventDetailView(Long id, String title, String description, EventType eventType, Integer limitOfEnrollments,
+                           LocalDateTime endEnrollmentDateTime, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                           String createdByNickname, boolean createdByHasProfileImage,
+                           Long studyId, String studyPath, String studyTitle, String studyShortDescription,
+                           boolean studyPublished, boolean studyClosed, boolean studyRecruiting,
+                           boolean studyUseBanner, String studyImage, int studyMemberCount) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.eventType = eventType;
+        this.limitOfEnrollments = limitOfEnrollments;
+        this.endEnrollmentDateTime = endEnrollmentDateTime;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.createdByNickname = createdByNickname;
+        this.createdByHasProfileImage = createdByHasProfileImage;
+        this.study = new StudyHeaderView(studyId, studyPath, studyTitle, studyShortDescription, studyPublished,
+                studyClosed, studyRecruiting, studyUseBanner, studyImage, studyMemberCount);
+    }
+
+    public boolean isEnrollableFor(Long accountId) {
+        return isNotClosed() && findEnrollment(accountId) == null;
+    }
+
+    public boolean isDisenrollableFor(Long accountId) {
+        return isNotClosed() && findEnrollment(accountId) != null;
+    }
+
+    public boolean isAttended(Long accountId) {
+        EnrollmentView enrollment = findEnrollment(accountId);
+        return enrollment != null && enrollment.isAttended();
+    }
+
+    public long getNumberOfAcceptedEnrollments() {
+        return this.enrollments.stream().filter(EnrollmentView::isAccepted).count();
+    }
+
+    public boolean canAccept(EnrollmentView enrollment) {
+        return this.eventType == EventType.CONFIRMATIVE
+                && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments()
+                && !enrollment.isAttended()
+                && !enrollment.isAccepted();
+    }
+
+    public boolean canReject(EnrollmentView enrollment) {
+        return this.eventType == EventType.CONFIRMATIVE
+                && !enrollment.isAttended()
+                && enrollment.isAccepted();
+    }
+
+    private boolean isNotClosed() {
+        return this.endEnrollmentDateTime.isAfter(LocalDateTime.now());
+    }
+
+    private EnrollmentView findEnrollment(Long accountId) {
+        for (EnrollmentView e : this.enrollments) {
+            if (e.getAccountId().equals(accountId)) {
+                return e;
+            }
+        }
+        return null;
+    }
+}
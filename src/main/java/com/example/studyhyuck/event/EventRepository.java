@@ -1,17 +1,73 @@
 package com.example.studyhyuck.event;
 
+import com.example.studyhyuck.domain.Account;
 import com.example.studyhyuck.domain.Event;
-import com.example.studyhyuck.domain.Study;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Transactional(readOnly = true)
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    @EntityGraph(value = "Event.withEnrollments", type = EntityGraph.EntityGraphType.LOAD)
-    List<Event> findByStudyOrderByStartDateTime(Study study);
+    @EntityGraph(value = "Event.withEnrollments", type = EntityGraph.EntityGraphType.FETCH)
+    Optional<Event> findEventWithEnrollmentsById(Long id);
+
+    @Query("select new com.example.studyhyuck.event.EventSummaryView(e.id, e.title, e.startDateTime, " +
+            "e.endEnrollmentDateTime, e.endDateTime, e.limitOfEnrollments, " +
+            "(select count(en) from Enrollment en where en.event = e and en.accepted = true)) " +
+            "from Event e where e.study.id = :studyId and e.endDateTime >= :now order by e.startDateTime")
+    List<EventSummaryView> findUpcomingEvents(@Param("studyId") Long studyId, @Param("now") LocalDateTime now);
+
+    @Query("select new com.example.studyhyuck.event.EventSummaryView(e.id, e.title, e.startDateTime, " +
+            "e.endEnrollmentDateTime, e.endDateTime, e.limitOfEnrollments, 0L) " +
+            "from Event e where e.study.id = :studyId and e.endDateTime < :now " +
+            "and (e.endDateTime < :beforeEndDateTime or (e.endDateTime = :beforeEndDateTime and e.id < :beforeId)) " +
+            "order by e.endDateTime desc, e.id desc")
+    List<EventSummaryView> findPastEvents(@Param("studyId") Long studyId, @Param("now") LocalDateTime now,
+                                          @Param("beforeEndDateTime") LocalDateTime beforeEndDateTime,
+                                          @Param("beforeId") Long beforeId, Pageable pageable);
+
+    long countByStudyIdAndEndDateTimeBefore(Long studyId, LocalDateTime now);
+
+    @Query("select new com.example.studyhyuck.event.EventDetailView(e.id, e.title, e.description, e.eventType, " +
+            "e.limitOfEnrollments, e.endEnrollmentDateTime, e.startDateTime, e.endDateTime, " +
+            "c.nickname, case when c.profileImage is null then false else true end, " +
+            "s.id, s.path, s.title, s.shortDescription, s.published, s.closed, s.recruiting, s.useBanner, s.image, s.memberCount) " +
+            "from Event e join e.study s left join e.createdBy c where e.id = :id and s.path = :path")
+    EventDetailView findEventDetail(@Param("path") String path, @Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    @Query("select new com.example.studyhyuck.event.EventCalendarEntry(e.id, e.title, e.startDateTime, e.endDateTime, s.path, s.title) " +
+            "from Event e join e.study s where s.path = :path and s.published = true order by e.startDateTime")
+    Stream<EventCalendarEntry> streamCalendarEntriesByStudyPath(@Param("path") String path);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    @Query("select new com.example.studyhyuck.event.EventCalendarEntry(e.id, e.title, e.startDateTime, e.endDateTime, s.path, s.title) " +
+            "from Event e join e.study s where s.published = true " +
+            "and (exists (select sm from StudyMember sm where sm.study = s and sm.account = :account) or :account member of s.managers) order by e.startDateTime")
+    Stream<EventCalendarEntry> streamCalendarEntriesByAccount(@Param("account") Account account);
+
+    @Query("select s.eventsUpdatedDateTime from Study s where s.path = :path and s.published = true")
+    LocalDateTime findEventsUpdatedDateTimeByStudyPath(@Param("path") String path);
+
+    @Query("select max(s.eventsUpdatedDateTime) from Study s where s.published = true " +
+            "and (exists (select sm from StudyMember sm where sm.study = s and sm.account = :account) or :account member of s.managers)")
+    LocalDateTime findEventsUpdatedDateTimeByAccount(@Param("account") Account account);
+
+    @Query("select s.id from Study s where s.published = true " +
+            "and (exists (select sm from StudyMember sm where sm.study = s and sm.account = :account) or :account member of s.managers) order by s.id")
+    List<Long> findCalendarStudyIdsByAccount(@Param("account") Account account);
 
 }
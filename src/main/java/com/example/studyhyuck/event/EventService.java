@@ -4,12 +4,17 @@ import com.example.studyhyuck.domain.Account;
 import com.example.studyhyuck.domain.Event;
 import com.example.studyhyuck.domain.Study;
 import com.example.studyhyuck.event.form.EventForm;
+import com.example.studyhyuck.event.reminder.EventReminderScheduler;
+import com.example.studyhyuck.statistics.StatisticsService;
+import com.example.studyhyuck.study.StudyRepository;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Service
 @Transactional
@@ -18,19 +23,65 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final ModelMapper modelMapper;
+    private final EventReminderScheduler eventReminderScheduler;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudyRepository studyRepository;
+    private final StatisticsService statisticsService;
 
     public Event createEvent(Event event, Study study, Account account) {
         event.setCreatedBy(account);
         event.setCreateDateTime(LocalDateTime.now());
         event.setStudy(study);
-        return eventRepository.save(event);
+        studyRepository.findById(study.getId()).orElseThrow().setEventsUpdatedDateTime(LocalDateTime.now());
+        Event newEvent = eventRepository.save(event);
+        eventReminderScheduler.schedule(newEvent);
+        statisticsService.eventCreatedAfterCommit();
+        return newEvent;
     }
 
     public void updateEvent(Event event, EventForm eventForm) {
-        modelMapper.map(eventForm, event);
+        Event current = reload(event);
+        if (!Objects.equals(current.getVersion(), eventForm.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Event.class, event.getId());
+        }
+        modelMapper.map(eventForm, current);
+        current.getStudy().setEventsUpdatedDateTime(LocalDateTime.now());
+        eventReminderScheduler.reschedule(current);
+    }
+
+    /**
+     * 수정 폼과 검증(수락된 참가 신청 수)에서 쓰는 참가 신청까지 읽어서 넘긴다.
+     */
+    @Transactional(readOnly = true)
+    public Event getEventToUpdate(Long id) {
+        return eventRepository.findEventWithEnrollmentsById(id)
+                .orElseThrow(() -> new IllegalArgumentException(id + "에 해당하는 모임이 없습니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public EventDetailView getEventDetail(String path, Long id, Account account) {
+        EventDetailView event = eventRepository.findEventDetail(path, id);
+        if (event == null) {
+            throw new IllegalArgumentException(path + " 스터디에 " + id + "에 해당하는 모임이 없습니다.");
+        }
+
+        event.setEnrollments(enrollmentRepository.findViewsByEventId(id));
+        event.setManager(account != null && studyRepository.existsManager(event.getStudy().getId(), account.getId()));
+        return event;
     }
 
     public void deleteEvent(Event event) {
-        eventRepository.delete(event);
+        Event current = reload(event);
+        current.getStudy().setEventsUpdatedDateTime(LocalDateTime.now());
+        eventReminderScheduler.cancel(current);
+        eventRepository.delete(current);
+        statisticsService.eventDeletedAfterCommit();
+    }
+
+    /**
+     * 컨트롤러가 넘긴 모임은 앞선 트랜잭션에서 읽은 준영속 엔티티이므로 이 트랜잭션에서 다시 읽어서 바꾼다.
+     */
+    private Event reload(Event event) {
+        return eventRepository.findById(event.getId()).orElseThrow();
     }
 }
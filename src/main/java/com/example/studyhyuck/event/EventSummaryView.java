@@ -0,0 +1,29 @@
+package com.example.studyhyuck.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class EventSummaryView {
+
+    private Long id;
+
+    private String title;
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endEnrollmentDateTime;
+
+    private LocalDateTime endDateTime;
+
+    private Integer limitOfEnrollments;
+
+    private long numberOfAcceptedEnrollments;
+
+    public int numberOfRemainSpots() {
+        return this.limitOfEnrollments - (int) this.numberOfAcceptedEnrollments;
+    }
+}
@@ -32,4 +32,6 @@ public class EventForm {
     @Min(2)
     private Integer limitOfEnrollments = 2;
 
+    private Long version;
+
 }
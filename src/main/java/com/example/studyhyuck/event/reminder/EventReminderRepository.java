@@ -0,0 +1,64 @@
+package com.example.studyhyuck.event.reminder;
+
+import com.example.studyhyuck.domain.Event;
+import com.example.studyhyuck.domain.EventReminder;
+import com.example.studyhyuck.domain.Study;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface EventReminderRepository extends JpaRepository<EventReminder, Long> {
+
+    @Query("select r.id as id, r.fireDateTime as fireDateTime, r.event.id as eventId from EventReminder r " +
+            "where r.sentDateTime is null and r.fireDateTime < :until")
+    List<PendingReminder> findPendingBefore(@Param("until") LocalDateTime until);
+
+    @Query("select r from EventReminder r join fetch r.event e join fetch e.study where r.id in :ids and r.sentDateTime is null")
+    List<EventReminder> findUnsentWithEventByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update EventReminder r set r.sentDateTime = :sentDateTime where r.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentDateTime") LocalDateTime sentDateTime);
+
+    @Transactional
+    @Modifying
+    @Query("delete from EventReminder r where r.event = :event and r.sentDateTime is null")
+    int deleteUnsentByEvent(@Param("event") Event event);
+
+    @Transactional
+    @Modifying
+    @Query("delete from EventReminder r where r.event = :event")
+    int deleteByEvent(@Param("event") Event event);
+
+    @Query("select en.account.email as email, en.account.nickname as nickname from Enrollment en " +
+            "where en.event = :event and en.accepted = true")
+    List<Recipient> findAcceptedEnrollees(@Param("event") Event event);
+
+    @Query("select a.email as email, a.nickname as nickname from StudyMember sm join sm.account a where sm.study = :study " +
+            "and a not in (select en.account from Enrollment en where en.event = :event)")
+    List<Recipient> findMembersNotEnrolled(@Param("study") Study study, @Param("event") Event event);
+
+    interface PendingReminder {
+
+        Long getId();
+
+        LocalDateTime getFireDateTime();
+
+        Long getEventId();
+    }
+
+    interface Recipient {
+
+        String getEmail();
+
+        String getNickname();
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.studyhyuck.event.reminder;
+
+import com.example.studyhyuck.domain.Event;
+import com.example.studyhyuck.domain.EventReminder;
+import com.example.studyhyuck.event.reminder.EventReminderRepository.PendingReminder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 앞으로 WINDOW 안에 보내야 할 모임 알림만 타이밍 휠에 올려 두고 때가 되면 발송한다.
+ * 알림 자체는 EventReminder 테이블에 저장되므로 재시작하면 아직 보내지 않은 알림을 다시 읽어 온다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventReminderScheduler {
+
+    static final Duration WINDOW = Duration.ofHours(24);
+    static final int BATCH_SIZE = 100;
+
+    private final EventReminderRepository eventReminderRepository;
+    private final EventReminderSender eventReminderSender;
+
+    private final TimingWheel<ScheduledReminder> wheel = new TimingWheel<>(1000L, 60, System.currentTimeMillis());
+    private final Map<Long, TimingWheel.Entry<ScheduledReminder>> scheduled = new ConcurrentHashMap<>();
+    private final Queue<Long> due = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 시작할 때와 이후 주기적으로 다음 WINDOW 안의 알림을 휠에 채운다.
+     */
+    @Scheduled(initialDelay = 0L, fixedDelayString = "${app.reminder-refill-interval:3600000}")
+    public void refill() {
+        List<PendingReminder> pending = eventReminderRepository.findPendingBefore(LocalDateTime.now().plus(WINDOW));
+        pending.forEach(p -> register(p.getId(), p.getEventId(), p.getFireDateTime()));
+        log.debug("{} event reminders pending in the next {}", pending.size(), WINDOW);
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminder-tick-interval:1000}")
+    public void tick() {
+        wheel.advance(System.currentTimeMillis(), entry -> due.add(entry.getValue().reminderId));
+
+        List<Long> batch = new ArrayList<>(BATCH_SIZE);
+        Long reminderId;
+        while ((reminderId = due.poll()) != null) {
+            scheduled.remove(reminderId);
+            batch.add(reminderId);
+            if (batch.size() == BATCH_SIZE) {
+                send(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    /**
+     * 알림은 이 트랜잭션에서 저장하고, 휠에는 커밋한 뒤에 올린다. 롤백되면 휠에 남는 알림이 없다.
+     */
+    public void schedule(Event event) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EventReminder> reminders = new ArrayList<>();
+        Arrays.stream(EventReminderType.values())
+                .filter(type -> type.fireDateTime(event).isAfter(now))
+                .forEach(type -> reminders.add(EventReminder.builder()
+                        .event(event)
+                        .reminderType(type)
+                        .fireDateTime(type.fireDateTime(event))
+                        .build()));
+
+        LocalDateTime windowEnd = now.plus(WINDOW);
+        Long eventId = event.getId();
+        List<EventReminder> inWindow = eventReminderRepository.saveAll(reminders).stream()
+                .filter(r -> r.getFireDateTime().isBefore(windowEnd))
+                .collect(Collectors.toList());
+        afterCommit(() -> inWindow.forEach(r -> register(r.getId(), eventId, r.getFireDateTime())));
+    }
+
+    public void reschedule(Event event) {
+        Long eventId = event.getId();
+        eventReminderRepository.deleteUnsentByEvent(event);
+        afterCommit(() -> unregister(eventId));
+        schedule(event);
+    }
+
+    public void cancel(Event event) {
+        Long eventId = event.getId();
+        eventReminderRepository.deleteByEvent(event);
+        afterCommit(() -> unregister(eventId));
+    }
+
+    boolean isScheduled(Long eventId) {
+        return scheduled.values().stream().anyMatch(entry -> entry.getValue().eventId.equals(eventId));
+    }
+
+    private void register(Long reminderId, Long eventId, LocalDateTime fireDateTime) {
+        long expiration = fireDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        TimingWheel.Entry<ScheduledReminder> entry = new TimingWheel.Entry<>(expiration, new ScheduledReminder(reminderId, eventId));
+        if (scheduled.putIfAbsent(reminderId, entry) != null) {
+            return;
+        }
+
+        if (!wheel.add(entry)) {
+            due.add(reminderId);
+        }
+    }
+
+    private void unregister(Long eventId) {
+        scheduled.values().removeIf(entry -> {
+            if (entry.getValue().eventId.equals(eventId)) {
+                entry.cancel();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void send(List<Long> reminderIds) {
+        try {
+            eventReminderSender.send(reminderIds);
+        } catch (RuntimeException e) {
+            log.error("failed to send event reminders {}", reminderIds, e);
+        }
+    }
+
+    private static class ScheduledReminder {
+
+        private final Long reminderId;
+        private final Long eventId;
+
+        private ScheduledReminder(Long reminderId, Long eventId) {
+            this.reminderId = reminderId;
+            this.eventId = eventId;
+        }
+    }
+}
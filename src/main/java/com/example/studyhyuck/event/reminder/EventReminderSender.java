@@ -0,0 +1,80 @@
+package com.example.studyhyuck.event.reminder;
+
+import com.example.studyhyuck.config.AppProperties;
+import com.example.studyhyuck.domain.Event;
+import com.example.studyhyuck.domain.EventReminder;
+import com.example.studyhyuck.event.reminder.EventReminderRepository.Recipient;
+import com.example.studyhyuck.mail.EmailMessage;
+import com.example.studyhyuck.mail.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림을 하나씩 보내고 보낼 때마다 바로 보낸 것으로 표시한다.
+ * 여러 알림을 한 트랜잭션으로 묶지 않으므로 중간에 실패해도 이미 보낸 알림은 다시 보내지 않고,
+ * 실패한 알림은 보내지 않은 채로 남아 다음 refill 때 다시 휠에 올라간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventReminderSender {
+
+    private final EventReminderRepository eventReminderRepository;
+    private final EmailService emailService;
+    private final TemplateEngine templateEngine;
+    private final AppProperties appProperties;
+
+    public void send(Collection<Long> reminderIds) {
+        List<EventReminder> reminders = eventReminderRepository.findUnsentWithEventByIdIn(reminderIds);
+        for (EventReminder reminder : reminders) {
+            try {
+                send(reminder);
+            } catch (RuntimeException e) {
+                log.error("failed to send event reminder {}", reminder.getId(), e);
+            }
+        }
+    }
+
+    private void send(EventReminder reminder) {
+        LocalDateTime now = LocalDateTime.now();
+        if (reminder.getReminderType().targetDateTime(reminder.getEvent()).isAfter(now)) {
+            getRecipients(reminder).forEach(recipient -> sendEmail(reminder, recipient));
+        }
+        eventReminderRepository.markSent(List.of(reminder.getId()), now);
+    }
+
+    private List<Recipient> getRecipients(EventReminder reminder) {
+        Event event = reminder.getEvent();
+        if (reminder.getReminderType() == EventReminderType.ENROLLMENT_CLOSING) {
+            return eventReminderRepository.findMembersNotEnrolled(event.getStudy(), event);
+        }
+        return eventReminderRepository.findAcceptedEnrollees(event);
+    }
+
+    private void sendEmail(EventReminder reminder, Recipient recipient) {
+        Event event = reminder.getEvent();
+        Context context = new Context();
+        context.setVariable("link", "/study/" + event.getStudy().getEncodedPath() + "/events/" + event.getId());
+        context.setVariable("nickname", recipient.getNickname());
+        context.setVariable("linkName", event.getTitle());
+        context.setVariable("message", reminder.getReminderType().getMessage());
+        context.setVariable("host", appProperties.getHost());
+
+        String message = templateEngine.process("mail/simple-link", context);
+
+        EmailMessage emailMessage = EmailMessage.builder()
+                .to(recipient.getEmail())
+                .subject("Study-Hyuck, '" + event.getTitle() + "' 모임 알림")
+                .message(message)
+                .build();
+
+        emailService.sendEmail(emailMessage);
+    }
+}
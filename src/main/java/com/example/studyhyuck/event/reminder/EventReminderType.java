@@ -0,0 +1,46 @@
+package com.example.studyhyuck.event.reminder;
+
+import com.example.studyhyuck.domain.Event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public enum EventReminderType {
+
+    START_IN_24_HOURS("모임이 24시간 뒤에 시작합니다.", Duration.ofHours(24)) {
+        @Override
+        public LocalDateTime targetDateTime(Event event) {
+            return event.getStartDateTime();
+        }
+    },
+    START_IN_1_HOUR("모임이 1시간 뒤에 시작합니다.", Duration.ofHours(1)) {
+        @Override
+        public LocalDateTime targetDateTime(Event event) {
+            return event.getStartDateTime();
+        }
+    },
+    ENROLLMENT_CLOSING("모임 참가 신청이 곧 마감됩니다.", Duration.ofHours(24)) {
+        @Override
+        public LocalDateTime targetDateTime(Event event) {
+            return event.getEndEnrollmentDateTime();
+        }
+    };
+
+    private final String message;
+    private final Duration before;
+
+    EventReminderType(String message, Duration before) {
+        this.message = message;
+        this.before = before;
+    }
+
+    public abstract LocalDateTime targetDateTime(Event event);
+
+    public LocalDateTime fireDateTime(Event event) {
+        return targetDateTime(event).minus(before);
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
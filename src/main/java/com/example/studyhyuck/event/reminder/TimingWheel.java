@@ -0,0 +1,152 @@
+package com.example.studyhyuck.event.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠.
+ * 가장 아래 휠은 tickMillis 단위로, 그 위 휠은 아래 휠 한 바퀴(interval)를 한 칸으로 삼는다.
+ * 먼 미래의 작업은 위쪽 휠에 들어가 있다가 시간이 가까워지면 아래 휠로 내려오므로
+ * 등록과 취소는 O(1), 시간 진행은 만료된 칸 수에만 비례한다.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long interval;
+    private final Bucket<T>[] buckets;
+    private final PriorityQueue<Bucket<T>> queue;
+    private long currentTime;
+    private TimingWheel<T> overflowWheel;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this(tickMillis, wheelSize, startMillis, new PriorityQueue<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private TimingWheel(long tickMillis, int wheelSize, long startMillis, PriorityQueue<Bucket<T>> queue) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.interval = tickMillis * wheelSize;
+        this.currentTime = startMillis - (startMillis % tickMillis);
+        this.queue = queue;
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.buckets[i] = new Bucket<>();
+        }
+    }
+
+    /**
+     * 작업을 등록한다. 이미 만료된 작업이면 등록하지 않고 false 를 반환한다.
+     */
+    public synchronized boolean add(Entry<T> entry) {
+        if (entry.isCancelled()) {
+            return true;
+        }
+
+        if (entry.expiration < currentTime + tickMillis) {
+            return false;
+        }
+
+        if (entry.expiration < currentTime + interval) {
+            long virtualId = entry.expiration / tickMillis;
+            Bucket<T> bucket = buckets[(int) (virtualId % wheelSize)];
+            bucket.entries.add(entry);
+            if (bucket.setExpiration(virtualId * tickMillis)) {
+                queue.add(bucket);
+            }
+            return true;
+        }
+
+        return overflowWheel().add(entry);
+    }
+
+    /**
+     * nowMillis 까지 시간을 진행하고 만료된 작업을 expired 로 넘겨준다.
+     */
+    public synchronized void advance(long nowMillis, Consumer<Entry<T>> expired) {
+        Bucket<T> bucket = queue.peek();
+        while (bucket != null && bucket.expiration <= nowMillis) {
+            queue.poll();
+            advanceClock(bucket.expiration);
+            for (Entry<T> entry : bucket.flush()) {
+                if (!entry.isCancelled() && !add(entry)) {
+                    expired.accept(entry);
+                }
+            }
+            bucket = queue.peek();
+        }
+    }
+
+    private void advanceClock(long timeMillis) {
+        if (timeMillis >= currentTime + tickMillis) {
+            currentTime = timeMillis - (timeMillis % tickMillis);
+            if (overflowWheel != null) {
+                overflowWheel.advanceClock(currentTime);
+            }
+        }
+    }
+
+    private TimingWheel<T> overflowWheel() {
+        if (overflowWheel == null) {
+            overflowWheel = new TimingWheel<>(interval, wheelSize, currentTime, queue);
+        }
+        return overflowWheel;
+    }
+
+    public static class Entry<T> {
+
+        private final long expiration;
+        private final T value;
+        private volatile boolean cancelled;
+
+        public Entry(long expiration, T value) {
+            this.expiration = expiration;
+            this.value = value;
+        }
+
+        public long getExpiration() {
+            return expiration;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private static class Bucket<T> implements Comparable<Bucket<T>> {
+
+        private List<Entry<T>> entries = new ArrayList<>();
+        private long expiration = -1L;
+
+        private boolean setExpiration(long expiration) {
+            if (this.expiration == expiration) {
+                return false;
+            }
+            this.expiration = expiration;
+            return true;
+        }
+
+        private List<Entry<T>> flush() {
+            List<Entry<T>> flushed = this.entries;
+            this.entries = new ArrayList<>();
+            this.expiration = -1L;
+            return flushed;
+        }
+
+        @Override
+        public int compareTo(Bucket<T> other) {
+            return Long.compare(this.expiration, other.expiration);
+        }
+    }
+}
@@ -2,17 +2,40 @@ package com.example.studyhyuck.main;
 
 import com.example.studyhyuck.account.CurrentAccount;
 import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.recommendation.RecommendationService;
+import com.example.studyhyuck.statistics.StatisticsService;
+import com.example.studyhyuck.study.StudyService;
+import com.example.studyhyuck.study.StudySummaryView;
+import com.example.studyhyuck.study.form.StudySearchForm;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import java.util.List;
+
 @Controller
+@RequiredArgsConstructor
 public class MainController {
 
+    static final int SEARCH_PAGE_SIZE = 20;
+    static final int RECOMMENDED_STUDIES = 6;
+    static final int RECOMMENDED_TAGS = 10;
+
+    private final StudyService studyService;
+    private final RecommendationService recommendationService;
+    private final StatisticsService statisticsService;
+
     @GetMapping
     public String home(@CurrentAccount Account account, Model model) {
+        model.addAttribute("numberOfAccounts", statisticsService.getNumberOfAccounts());
+        model.addAttribute("numberOfStudies", statisticsService.getNumberOfStudies());
+        model.addAttribute("numberOfEvents", statisticsService.getNumberOfEvents());
         if (account != null) {
             model.addAttribute(account);
+            model.addAttribute("studyFeed", studyService.getStudyFeed(account));
+            model.addAttribute("recommendedStudies", recommendationService.recommendStudies(account, RECOMMENDED_STUDIES));
+            model.addAttribute("recommendedTags", recommendationService.recommendTags(account, RECOMMENDED_TAGS));
         }
 
         return "index";
@@ -22,4 +45,20 @@ public class MainController {
     public String login() {
         return "login";
     }
+
+    @GetMapping("/search/study")
+    public String searchStudy(@CurrentAccount Account account, StudySearchForm studySearchForm, Model model) {
+        if (account != null) {
+            model.addAttribute(account);
+        }
+
+        List<StudySummaryView> studies = studyService.searchStudies(studySearchForm, SEARCH_PAGE_SIZE + 1);
+        boolean hasMoreStudies = studies.size() > SEARCH_PAGE_SIZE;
+        if (hasMoreStudies) {
+            studies = studies.subList(0, SEARCH_PAGE_SIZE);
+        }
+        model.addAttribute("studies", studies);
+        model.addAttribute("hasMoreStudies", hasMoreStudies);
+        return "search";
+    }
 }
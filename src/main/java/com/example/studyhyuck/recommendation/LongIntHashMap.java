@@ -0,0 +1,125 @@
+package com.example.studyhyuck.recommendation;
+
+/**
+ * long 키, int 값을 배열 두 개에 그대로 담는 해시 맵(open addressing, linear probing).
+ * 키와 값을 Long, Integer 객체로 감싸지 않으므로 항목 하나에 12 바이트 남짓만 쓴다. 0 은 빈 칸 표시로 쓰므로 키로 쓸 수 없다.
+ * 스레드에 안전하지 않다.
+ */
+final class LongIntHashMap {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    LongIntHashMap() {
+        this(8);
+    }
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        int slot = find(key);
+        return keys[slot] == EMPTY ? 0 : values[slot];
+    }
+
+    /**
+     * 값에 delta 를 더한다. 결과가 0 이하가 되면 항목을 지운다.
+     */
+    void addTo(long key, int delta) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("0 은 키로 쓸 수 없습니다.");
+        }
+
+        int slot = find(key);
+        if (keys[slot] == EMPTY) {
+            if (delta <= 0) {
+                return;
+            }
+            keys[slot] = key;
+            values[slot] = delta;
+            if (++size > keys.length * LOAD_FACTOR) {
+                resize();
+            }
+            return;
+        }
+
+        values[slot] += delta;
+        if (values[slot] <= 0) {
+            remove(slot);
+        }
+    }
+
+    void forEach(Consumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Consumer {
+        void accept(long key, int value);
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * 지운 칸 뒤에 이어진 항목들을 제자리로 당겨서 탐색이 빈 칸에서 끊기지 않게 한다. (backward shift deletion)
+     */
+    private void remove(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        values[hole] = 0;
+        size--;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length << 1];
+        values = new int[oldValues.length << 1];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+}
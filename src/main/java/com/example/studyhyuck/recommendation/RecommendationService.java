@@ -0,0 +1,76 @@
+package com.example.studyhyuck.recommendation;
+
+import com.example.studyhyuck.account.AccountRepository;
+import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.domain.Tag;
+import com.example.studyhyuck.study.StudyRepository;
+import com.example.studyhyuck.study.StudyService;
+import com.example.studyhyuck.study.StudySummaryView;
+import com.example.studyhyuck.tag.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 관심 태그와 자주 함께 달리는 태그({@link TagCooccurrenceIndex})로 관심사를 넓혀서 스터디와 태그를 추천한다.
+ * 점수 계산은 메모리에서 하고, DB 는 계정의 태그/지역/가입한 스터디와 보여줄 스터디, 태그 이름만 읽는다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    static final int NEIGHBORS_PER_TAG = 10;
+
+    private final TagCooccurrenceIndex cooccurrenceIndex;
+    private final AccountRepository accountRepository;
+    private final StudyRepository studyRepository;
+    private final TagRepository tagRepository;
+    private final StudyService studyService;
+
+    /**
+     * 관심 태그는 1, 함께 달리는 태그는 P(태그 | 관심 태그) 만큼의 가중치로 스터디의 태그 점수를 더한다.
+     * 이미 가입했거나 관리하는 스터디는 뺀다.
+     */
+    public List<StudySummaryView> recommendStudies(Account account, int size) {
+        Set<Long> tagIds = accountRepository.findTagIds(account.getId());
+        if (tagIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> tagWeights = new HashMap<>(cooccurrenceIndex.relatedTags(tagIds, NEIGHBORS_PER_TAG));
+        tagIds.forEach(tagId -> tagWeights.merge(tagId, 1.0, Double::sum));
+        List<Long> studyIds = cooccurrenceIndex.recommendStudies(tagWeights,
+                accountRepository.findZoneIds(account.getId()), studyRepository.findJoinedStudyIds(account.getId()), size);
+        return studyService.getStudySummaries(studyIds);
+    }
+
+    /**
+     * 관심 태그와 자주 함께 달리는, 아직 관심 태그가 아닌 태그 이름을 가중치 순으로 size 개.
+     */
+    public List<String> recommendTags(Account account, int size) {
+        Set<Long> tagIds = accountRepository.findTagIds(account.getId());
+        if (tagIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> relatedTagIds = cooccurrenceIndex.relatedTags(tagIds, NEIGHBORS_PER_TAG).entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        if (relatedTagIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> titles = tagRepository.findAllById(relatedTagIds).stream()
+                .collect(Collectors.toMap(Tag::getId, Tag::getTitle));
+        return relatedTagIds.stream().filter(titles::containsKey).map(titles::get).collect(Collectors.toList());
+    }
+}
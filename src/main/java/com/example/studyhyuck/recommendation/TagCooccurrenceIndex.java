@@ -0,0 +1,436 @@
+package com.example.studyhyuck.recommendation;
+
+import com.example.studyhyuck.study.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 한 계정이나 한 스터디(진행 중인 공개 스터디)에 함께 달린 태그 쌍의 수를 메모리에 세어 둔다.
+ * 태그마다 (함께 달린 태그 id -> 횟수) 를 {@link LongIntHashMap} 으로 담으므로 계정-태그 관계가 수백만 개여도
+ * 힙에는 서로 다른 태그 쌍의 수만큼만 남는다. 추천할 스터디를 바로 찾도록 진행 중인 공개 스터디의 태그와 지역도 함께 담는다.
+ * 주기적으로 조인 테이블을 순서대로 훑어서 다시 세고, 그 사이에 바뀐 태그는 커밋된 뒤에 차이만 더하고 뺀다.
+ * 다시 세는 동안 바뀐 태그는 새로 센 값에 다시 더하고 빼서 바꿔 끼울 때 잃지 않는다.
+ * 계정 태그는 훑기 시작한 시점과 커밋된 뒤 알림을 받는 시점이 딱 맞지 않으므로 그 틈에 걸친 변경은 다음에 다시 셀 때까지 조금 어긋날 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagCooccurrenceIndex {
+
+    /**
+     * 태그가 n 개인 묶음은 n(n-1)/2 쌍을 만드므로 태그 id 가 작은 순으로 이만큼만 센다.
+     */
+    static final int MAX_TAGS_PER_BASKET = 30;
+
+    /**
+     * 이보다 적게 함께 나온 쌍으로는 추천하지 않는다. 한 번 우연히 함께 달린 태그를 추천하지 않게 한다.
+     * 세는 값은 그대로 두고 찾을 때 거른다. 셀 때 버리면 다시 세기 전까지 차이만 더한 쌍과 값이 어긋난다.
+     */
+    static final int MIN_SUPPORT = 2;
+
+    static final int FETCH_SIZE = 1_000;
+
+    /**
+     * 관심 지역에 있는 스터디에 곱하는 점수.
+     */
+    static final double ZONE_BOOST = 1.5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StudyRepository studyRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Counts counts = new Counts();
+
+    /**
+     * 진행 중인 공개 스터디 id -> 태그 id, 지역 id (정렬해서 담는다)
+     */
+    private Map<Long, long[]> studyTags = new HashMap<>();
+    private Map<Long, long[]> studyZones = new HashMap<>();
+
+    /**
+     * 태그 id -> 그 태그가 달린 진행 중인 공개 스터디 id
+     */
+    private Map<Long, long[]> tagStudies = new HashMap<>();
+
+    /**
+     * 다시 세는 동안 커밋된 계정 태그 변경(before, after)과 바뀐 스터디 id. 다시 세지 않을 때는 null.
+     * 계정 태그 변경은 계정 태그 조회가 첫 행을 돌려준 뒤부터 모은다.
+     */
+    private List<long[][]> accountChangesDuringRebuild;
+    private Set<Long> studiesChangedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.recommendation-refresh-interval:3600000}",
+            fixedDelayString = "${app.recommendation-refresh-interval:3600000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            studiesChangedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Counts newCounts = new Counts();
+        // 첫 행이 오기 전에 커밋된 변경은 조회 결과에 이미 들어 있으므로 그 뒤부터 모은다. 먼저 모으면 두 번 더해진다.
+        streamBaskets("select account_id, tags_id from account_tags order by account_id, tags_id",
+                (basketId, tagIds) -> newCounts.add(tagIds, 1), this::startRecordingAccountChanges);
+
+        Map<Long, long[]> newStudyTags = new HashMap<>();
+        streamBaskets("select st.study_id, st.tags_id from study_tags st join study s on s.id = st.study_id " +
+                        "where s.published = true and s.closed = false order by st.study_id, st.tags_id",
+                newStudyTags::put, null);
+        Map<Long, long[]> newStudyZones = new HashMap<>();
+        streamBaskets("select sz.study_id, sz.zones_id from study_zones sz join study s on s.id = sz.study_id " +
+                        "where s.published = true and s.closed = false order by sz.study_id, sz.zones_id",
+                newStudyZones::put, null);
+
+        newStudyTags.values().forEach(tagIds -> newCounts.add(tagIds, 1));
+        Map<Long, long[]> newTagStudies = invert(newStudyTags);
+
+        Set<Long> changedStudyIds;
+        lock.writeLock().lock();
+        try {
+            // 계정 태그 조회가 첫 행을 돌려준 뒤에 커밋된 변경은 새로 센 값에 없다고 보고 다시 더하고 뺀다.
+            accountChangesDuringRebuild.forEach(change -> {
+                newCounts.add(change[0], -1);
+                newCounts.add(change[1], 1);
+            });
+            counts = newCounts;
+            studyTags = newStudyTags;
+            studyZones = newStudyZones;
+            tagStudies = newTagStudies;
+            changedStudyIds = studiesChangedDuringRebuild;
+            accountChangesDuringRebuild = null;
+            studiesChangedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 스터디는 새로 센 태그를 빼고 지금 태그를 더하므로 훑기 전후 어느 쪽에 커밋됐든 다시 읽으면 맞는다.
+        for (Long studyId : changedStudyIds) {
+            applyStudy(studyId, basket(studyRepository.findOpenStudyTagIds(studyId)),
+                    basket(studyRepository.findOpenStudyZoneIds(studyId)));
+        }
+        log.info("counted {} tag pairs over {} tags, {} open studies", newCounts.pairs(), newCounts.tags.size(), newStudyTags.size());
+    }
+
+    private void startRecordingAccountChanges() {
+        lock.writeLock().lock();
+        try {
+            accountChangesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 계정의 관심 태그가 before 에서 after 로 바뀐 만큼 커밋된 뒤에 쌍의 수를 고친다.
+     */
+    public void accountTagsChangedAfterCommit(Collection<Long> before, Collection<Long> after) {
+        long[] beforeTagIds = basket(before);
+        long[] afterTagIds = basket(after);
+        Runnable apply = () -> {
+            lock.writeLock().lock();
+            try {
+                if (accountChangesDuringRebuild != null) {
+                    accountChangesDuringRebuild.add(new long[][]{beforeTagIds, afterTagIds});
+                }
+                counts.add(beforeTagIds, -1);
+                counts.add(afterTagIds, 1);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 커밋 직전에 스터디의 태그와 지역을 다시 읽어 두었다가(진행 중인 공개 스터디가 아니면 빈 값) 커밋된 뒤에 반영한다.
+     * 스터디의 예전 태그는 메모리에 있으므로 차이만 더하고 뺀다.
+     */
+    public void studyChangedAfterCommit(Long studyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyStudy(studyId, basket(studyRepository.findOpenStudyTagIds(studyId)),
+                    basket(studyRepository.findOpenStudyZoneIds(studyId)));
+            return;
+        }
+
+        PendingStudies pending = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(PendingStudies.class::isInstance)
+                .map(PendingStudies.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    PendingStudies newPending = new PendingStudies();
+                    TransactionSynchronizationManager.registerSynchronization(newPending);
+                    return newPending;
+                });
+        pending.studyIds.add(studyId);
+    }
+
+    /**
+     * 각 태그와 MIN_SUPPORT 번 이상 함께 나온 태그 중 가장 많이 나온 neighbors 개씩을 골라 P(함께 나온 태그 | 태그) 를 더한 가중치.
+     * 이미 가진 태그는 빼고 돌려준다.
+     */
+    public Map<Long, Double> relatedTags(Collection<Long> tagIds, int neighbors) {
+        Map<Long, Double> weights = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long tagId : tagIds) {
+                LongIntHashMap row = counts.rows.get(tagId);
+                int tagCount = counts.tags.get(tagId);
+                if (row == null || tagCount == 0) {
+                    continue;
+                }
+
+                PriorityQueue<long[]> top = new PriorityQueue<>(neighbors + 1,
+                        Comparator.<long[]>comparingLong(entry -> entry[1]).thenComparingLong(entry -> -entry[0]));
+                row.forEach((relatedTagId, count) -> {
+                    if (count >= MIN_SUPPORT && !tagIds.contains(relatedTagId)) {
+                        top.add(new long[]{relatedTagId, count});
+                        if (top.size() > neighbors) {
+                            top.poll();
+                        }
+                    }
+                });
+                top.forEach(entry -> weights.merge(entry[0], Math.min(1.0, (double) entry[1] / tagCount), Double::sum));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return weights;
+    }
+
+    /**
+     * 스터디에 달린 태그의 가중치를 더한 점수가 높은 순으로 size 개. 관심 지역에 있는 스터디는 ZONE_BOOST 배로 올린다.
+     */
+    public List<Long> recommendStudies(Map<Long, Double> tagWeights, Set<Long> zoneIds, Set<Long> excludedStudyIds, int size) {
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            tagWeights.forEach((tagId, weight) -> {
+                for (long studyId : tagStudies.getOrDefault(tagId, new long[0])) {
+                    if (!excludedStudyIds.contains(studyId)) {
+                        scores.merge(studyId, weight, Double::sum);
+                    }
+                }
+            });
+            if (!zoneIds.isEmpty()) {
+                scores.replaceAll((studyId, score) ->
+                        Arrays.stream(studyZones.getOrDefault(studyId, new long[0])).anyMatch(zoneIds::contains)
+                                ? score * ZONE_BOOST : score);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private void applyStudy(Long studyId, long[] tagIds, long[] zoneIds) {
+        lock.writeLock().lock();
+        try {
+            if (studiesChangedDuringRebuild != null) {
+                studiesChangedDuringRebuild.add(studyId);
+            }
+            long[] before = studyTags.remove(studyId);
+            studyZones.remove(studyId);
+            if (before != null) {
+                counts.add(before, -1);
+                for (long tagId : before) {
+                    tagStudies.computeIfPresent(tagId, (id, studyIds) -> {
+                        long[] remaining = LongStream.of(studyIds).filter(taggedStudyId -> taggedStudyId != studyId).toArray();
+                        return remaining.length == 0 ? null : remaining;
+                    });
+                }
+            }
+
+            if (tagIds.length > 0) {
+                counts.add(tagIds, 1);
+                studyTags.put(studyId, tagIds);
+                studyZones.put(studyId, zoneIds);
+                for (long tagId : tagIds) {
+                    tagStudies.merge(tagId, new long[]{studyId},
+                            (studyIds, added) -> LongStream.concat(LongStream.of(studyIds), LongStream.of(added)).toArray());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private interface BasketHandler {
+        void accept(long basketId, long[] ids);
+    }
+
+    /**
+     * (묶음 id, 항목 id) 로 정렬된 행을 스트리밍으로 읽어서 묶음마다 한 번씩 넘긴다. 전체 행을 메모리에 올리지 않는다.
+     * onFirstRow 는 첫 행을 받았을 때(행이 없으면 조회가 끝났을 때) 한 번 부른다.
+     */
+    private void streamBaskets(String sql, BasketHandler handler, Runnable onFirstRow) {
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        BasketCollector collector = new BasketCollector(handler, onFirstRow);
+        streaming.query(sql, collector);
+        collector.firstRow();
+        collector.flush();
+    }
+
+    private static class BasketCollector implements RowCallbackHandler {
+
+        private final BasketHandler handler;
+        private final long[] ids = new long[MAX_TAGS_PER_BASKET];
+        private Runnable onFirstRow;
+        private long basketId;
+        private int size;
+
+        BasketCollector(BasketHandler handler, Runnable onFirstRow) {
+            this.handler = handler;
+            this.onFirstRow = onFirstRow;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            firstRow();
+            long rowBasketId = rs.getLong(1);
+            if (size > 0 && rowBasketId != basketId) {
+                flush();
+            }
+            basketId = rowBasketId;
+            if (size < MAX_TAGS_PER_BASKET) {
+                ids[size++] = rs.getLong(2);
+            }
+        }
+
+        void firstRow() {
+            if (onFirstRow != null) {
+                onFirstRow.run();
+                onFirstRow = null;
+            }
+        }
+
+        void flush() {
+            if (size > 0) {
+                handler.accept(basketId, Arrays.copyOf(ids, size));
+            }
+            size = 0;
+        }
+    }
+
+    private static long[] basket(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().limit(MAX_TAGS_PER_BASKET).toArray();
+    }
+
+    private static Map<Long, long[]> invert(Map<Long, long[]> studyTags) {
+        Map<Long, LongStream.Builder> builders = new HashMap<>();
+        studyTags.forEach((studyId, tagIds) -> {
+            for (long tagId : tagIds) {
+                builders.computeIfAbsent(tagId, id -> LongStream.builder()).add(studyId);
+            }
+        });
+        Map<Long, long[]> inverted = new HashMap<>();
+        builders.forEach((tagId, builder) -> inverted.put(tagId, builder.build().toArray()));
+        return inverted;
+    }
+
+    /**
+     * 태그 id -> (함께 나온 태그 id -> 횟수), 태그 id -> 그 태그가 나온 묶음 수
+     */
+    private static class Counts {
+
+        private final Map<Long, LongIntHashMap> rows = new HashMap<>();
+        private final LongIntHashMap tags = new LongIntHashMap();
+
+        void add(long[] tagIds, int delta) {
+            for (int i = 0; i < tagIds.length; i++) {
+                tags.addTo(tagIds[i], delta);
+                for (int j = i + 1; j < tagIds.length; j++) {
+                    addPair(tagIds[i], tagIds[j], delta);
+                    addPair(tagIds[j], tagIds[i], delta);
+                }
+            }
+        }
+
+        private void addPair(long tagId, long relatedTagId, int delta) {
+            LongIntHashMap row = rows.get(tagId);
+            if (row == null) {
+                if (delta <= 0) {
+                    return;
+                }
+                row = new LongIntHashMap();
+                rows.put(tagId, row);
+            }
+            row.addTo(relatedTagId, delta);
+            if (row.size() == 0) {
+                rows.remove(tagId);
+            }
+        }
+
+        long pairs() {
+            return rows.values().stream().mapToLong(LongIntHashMap::size).sum() / 2;
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 바뀐 스터디들. 커밋 직전(아직 트랜잭션 안)에 읽어야 바뀐 내용이 보인다.
+     */
+    private class PendingStudies implements TransactionSynchronization {
+
+        private final Set<Long> studyIds = new HashSet<>();
+
+        private final Map<Long, long[][]> loaded = new HashMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            for (Long studyId : studyIds) {
+                loaded.put(studyId, new long[][]{basket(studyRepository.findOpenStudyTagIds(studyId)),
+                        basket(studyRepository.findOpenStudyZoneIds(studyId))});
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            loaded.forEach((studyId, tagsAndZones) -> applyStudy(studyId, tagsAndZones[0], tagsAndZones[1]));
+        }
+    }
+}
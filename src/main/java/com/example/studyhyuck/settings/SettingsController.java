@@ -8,9 +8,11 @@ import com.example.studyhyuck.domain.Zone;
 import com.example.studyhyuck.settings.form.*;
 import com.example.studyhyuck.settings.validator.NicknameValidator;
 import com.example.studyhyuck.settings.validator.PasswordFormValidator;
+import com.example.studyhyuck.settings.validator.ProfileValidator;
 import com.example.studyhyuck.tag.TagRepository;
 import com.example.studyhyuck.tag.TagService;
 import com.example.studyhyuck.zone.ZoneRepository;
+import com.example.studyhyuck.zone.ZoneService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -51,9 +53,15 @@ public class SettingsController {
     private final NicknameValidator nicknameValidator;
     private final TagRepository tagRepository;
     private final ZoneRepository zoneRepository;
+    private final ZoneService zoneService;
     private final ObjectMapper objectMapper;
 
 
+    @InitBinder("profile")
+    public void profileInitBinder(WebDataBinder webDataBinder) {
+        webDataBinder.addValidators(new ProfileValidator());
+    }
+
     @InitBinder("passwordForm")
     public void passwordFormInitBinder(WebDataBinder webDataBinder) {
         webDataBinder.addValidators(new PasswordFormValidator());
@@ -136,6 +144,18 @@ public class SettingsController {
         return SETTINGS + TAGS;
     }
 
+    /**
+     * 화면에서 모아 둔 변경분({add:[...], remove:[...]})을 한 번에 반영한다.
+     */
+    @PostMapping(TAGS)
+    @ResponseBody
+    public ResponseEntity changeTags(@CurrentAccount Account account, @RequestBody TagsForm tagsForm) {
+        List<Tag> tagsToAdd = tagService.findOrCreateAll(tagsForm.getAdd());
+        List<Tag> tagsToRemove = tagService.findAllByTitles(tagsForm.getRemove());
+        accountService.updateTags(account, tagsToAdd, tagsToRemove);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping(TAGS + "/add")
     public @ResponseBody ResponseEntity addTag(@CurrentAccount Account account, @RequestBody TagForm tagForm) {
         Tag tag = tagService.findOrCreateNew(tagForm.getTagTitle());
@@ -168,6 +188,20 @@ public class SettingsController {
         return SETTINGS + ZONES;
     }
 
+    @PostMapping(ZONES)
+    @ResponseBody
+    public ResponseEntity changeZones(@CurrentAccount Account account, @RequestBody ZonesForm zonesForm) {
+        List<Zone> zonesToAdd = zoneService.findAllByNames(zonesForm.getAdd());
+        List<Zone> zonesToRemove = zoneService.findAllByNames(zonesForm.getRemove());
+        if (zonesToAdd.size() != Set.copyOf(zonesForm.getAdd()).size()
+                || zonesToRemove.size() != Set.copyOf(zonesForm.getRemove()).size()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        accountService.updateZones(account, zonesToAdd, zonesToRemove);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping(ZONES + "/add")
     @ResponseBody
     public ResponseEntity addZone(@CurrentAccount Account account, @RequestBody ZoneForm zoneForm) {
@@ -0,0 +1,15 @@
+package com.example.studyhyuck.settings.form;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ZonesForm {
+
+    private List<String> add = new ArrayList<>();
+
+    private List<String> remove = new ArrayList<>();
+
+}
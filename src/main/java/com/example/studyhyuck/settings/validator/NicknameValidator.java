@@ -1,7 +1,6 @@
 package com.example.studyhyuck.settings.validator;
 
-import com.example.studyhyuck.account.AccountRepository;
-import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.account.AccountNameFilter;
 import com.example.studyhyuck.settings.form.NicknameForm;
 import com.example.studyhyuck.settings.form.PasswordForm;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +12,7 @@ import org.springframework.validation.Validator;
 @RequiredArgsConstructor
 public class NicknameValidator implements Validator {
 
-    private final AccountRepository accountRepository;
+    private final AccountNameFilter accountNameFilter;
 
     @Override
     public boolean supports(Class<?> aClass) {
@@ -23,8 +22,7 @@ public class NicknameValidator implements Validator {
     @Override
     public void validate(Object target, Errors errors) {
         NicknameForm nicknameForm = (NicknameForm) target;
-        Account byNickname = accountRepository.findByNickname(nicknameForm.getNickname());
-        if (byNickname != null) {
+        if (accountNameFilter.isNicknameTaken(nicknameForm.getNickname())) {
             errors.rejectValue("nickname", "wrong.value", "입력하신 닉네임을 사용할 수 없습니다.");
         }
     }
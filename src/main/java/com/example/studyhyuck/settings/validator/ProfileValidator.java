@@ -0,0 +1,23 @@
+package com.example.studyhyuck.settings.validator;
+
+import com.example.studyhyuck.account.ProfileImage;
+import com.example.studyhyuck.settings.form.Profile;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+public class ProfileValidator implements Validator {
+
+    @Override
+    public boolean supports(Class<?> aClass) {
+        return Profile.class.isAssignableFrom(aClass);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        Profile profile = (Profile) target;
+        if (StringUtils.hasLength(profile.getProfileImage()) && !ProfileImage.isValid(profile.getProfileImage())) {
+            errors.rejectValue("profileImage", "wrong.value", "PNG, JPEG, GIF, WebP 이미지만 사용할 수 있습니다.");
+        }
+    }
+}
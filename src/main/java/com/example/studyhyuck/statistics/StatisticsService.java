@@ -0,0 +1,85 @@
+package com.example.studyhyuck.statistics;
+
+import com.example.studyhyuck.account.AccountRepository;
+import com.example.studyhyuck.event.EventRepository;
+import com.example.studyhyuck.study.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사이트 전체의 회원(이메일 인증을 마친 계정), 공개 스터디, 모임 수. 요청마다 테이블을 세지 않고 메모리의 카운터를 읽는다.
+ * 애플리케이션이 뜰 때와 주기적으로 DB 에서 다시 세고, 그 사이에는 커밋된 변경만큼 더하고 뺀다.
+ * 다른 서버에서 생긴 변경은 다음에 다시 셀 때까지 반영되지 않으므로 대략적인 값이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsService {
+
+    private final AccountRepository accountRepository;
+    private final StudyRepository studyRepository;
+    private final EventRepository eventRepository;
+
+    private final AtomicLong numberOfAccounts = new AtomicLong();
+    private final AtomicLong numberOfStudies = new AtomicLong();
+    private final AtomicLong numberOfEvents = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.statistics-refresh-interval:600000}",
+            fixedDelayString = "${app.statistics-refresh-interval:600000}")
+    public void refresh() {
+        numberOfAccounts.set(accountRepository.countByEmailVerified(true));
+        numberOfStudies.set(studyRepository.countByPublished(true));
+        numberOfEvents.set(eventRepository.count());
+        log.debug("{} accounts, {} studies, {} events", numberOfAccounts.get(), numberOfStudies.get(), numberOfEvents.get());
+    }
+
+    public long getNumberOfAccounts() {
+        return numberOfAccounts.get();
+    }
+
+    public long getNumberOfStudies() {
+        return numberOfStudies.get();
+    }
+
+    public long getNumberOfEvents() {
+        return numberOfEvents.get();
+    }
+
+    public void accountVerifiedAfterCommit() {
+        afterCommit(numberOfAccounts, 1);
+    }
+
+    public void studyPublishedAfterCommit() {
+        afterCommit(numberOfStudies, 1);
+    }
+
+    public void eventCreatedAfterCommit() {
+        afterCommit(numberOfEvents, 1);
+    }
+
+    public void eventDeletedAfterCommit() {
+        afterCommit(numberOfEvents, -1);
+    }
+
+    private void afterCommit(AtomicLong counter, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.addAndGet(delta);
+                }
+            });
+        } else {
+            counter.addAndGet(delta);
+        }
+    }
+}
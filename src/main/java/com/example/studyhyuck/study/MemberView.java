@@ -0,0 +1,26 @@
+package com.example.studyhyuck.study;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class MemberView {
+
+    private Long id;
+
+    private String nickname;
+
+    private String bio;
+
+    private boolean hasProfileImage;
+
+    private LocalDateTime joinedDateTime;
+
+    public MemberView(Long id, String nickname, String bio, boolean hasProfileImage) {
+        this(id, nickname, bio, hasProfileImage, null);
+    }
+
+}
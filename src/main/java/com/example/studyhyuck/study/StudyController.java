@@ -7,6 +7,8 @@ import com.example.studyhyuck.study.form.StudyForm;
 import com.example.studyhyuck.study.validator.StudyFormValidator;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -15,15 +17,20 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Controller
 @RequiredArgsConstructor
 public class StudyController {
 
+    static final int MEMBERS_PAGE_SIZE = 50;
+
     private final StudyService studyService;
     private final ModelMapper modelMapper;
     private final StudyFormValidator studyFormValidator;
@@ -54,30 +61,59 @@ public class StudyController {
 
     @GetMapping("/study/{path}")
     public String viewStudy(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
+        StudyHeaderView study = studyService.getStudyHeader(path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
+        model.addAttribute("fullDescription", studyService.getFullDescription(study));
         return "study/view";
     }
 
     @GetMapping("study/{path}/members")
-    public String viewStudyMembers(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
+    public String viewStudyMembers(@CurrentAccount Account account, @PathVariable String path,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime after,
+                                   @RequestParam(required = false) Long afterId, Model model) {
+        StudyHeaderView study = studyService.getStudyHeader(path);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
+        model.addAttribute("managers", studyService.getManagers(study));
+        addMemberPage(study, after, afterId, model);
         return "study/members";
     }
 
+    @GetMapping("study/{path}/members/page")
+    public String viewStudyMemberPage(@PathVariable String path,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime after,
+                                      @RequestParam(required = false) Long afterId, Model model) {
+        StudyHeaderView study = studyService.getStudyHeader(path);
+        model.addAttribute("study", study);
+        addMemberPage(study, after, afterId, model);
+        return "study/members :: member-page";
+    }
+
+    private void addMemberPage(StudyHeaderView study, LocalDateTime after, Long afterId, Model model) {
+        List<MemberView> members = studyService.getMembers(study, after, afterId, MEMBERS_PAGE_SIZE + 1);
+        boolean hasMoreMembers = members.size() > MEMBERS_PAGE_SIZE;
+        if (hasMoreMembers) {
+            members = members.subList(0, MEMBERS_PAGE_SIZE);
+        }
+        model.addAttribute("members", members);
+        model.addAttribute("hasMoreMembers", hasMoreMembers);
+    }
+
     @GetMapping("/study/{path}/join")
     public String joinStudy(@CurrentAccount Account account, @PathVariable String path) {
-        Study study = studyRepository.findStudyWithMembersByPath(path);
-        studyService.addMember(study, account);
+        Study study = studyRepository.findByPath(path);
+        try {
+            studyService.addMember(study, account);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 가입 요청이 동시에 처리되어 이미 가입된 상태
+        }
         return "redirect:/study/" + study.getEncodedPath() + "/members";
     }
 
     @GetMapping("/study/{path}/leave")
     public String leaveStudy(@CurrentAccount Account account, @PathVariable String path) {
-        Study study = studyRepository.findStudyWithMembersByPath(path);
+        Study study = studyRepository.findByPath(path);
         studyService.removeMember(study, account);
         return "redirect:/study/" + study.getEncodedPath() + "/members";
     }
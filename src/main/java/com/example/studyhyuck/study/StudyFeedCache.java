@@ -0,0 +1,134 @@
+package com.example.studyhyuck.study;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+/**
+ * 계정마다 관심 태그와 지역에 맞는 스터디 id 목록(홈 피드)을 최근 사용한 순으로 MAX_CACHED_FEEDS 개까지 담아 둔다.
+ * 없으면 StudyService 가 DB 에서 계산해서 담는다. 스터디를 공개하면 관심 있는 계정의 피드 앞에 바로 끼워 넣고,
+ * 스터디의 태그/지역이 바뀌거나 종료/삭제되거나 계정의 관심사가 바뀌면 해당 피드를 지워서 다음 조회 때 다시 계산한다.
+ */
+@Component
+public class StudyFeedCache implements MeterBinder {
+
+    static final int FEED_SIZE = 9;
+
+    static final int MAX_CACHED_FEEDS = 10_000;
+
+    private final Map<Long, long[]> feeds = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+            return size() > MAX_CACHED_FEEDS;
+        }
+    };
+
+    /**
+     * 피드가 바뀔 때마다 오른다. 계산을 시작할 때의 값과 담을 때의 값이 다르면 그 사이 바뀐 내용을 놓쳤을 수 있으므로 담지 않는다.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public synchronized long[] get(Long accountId) {
+        long[] feed = feeds.get(accountId);
+        (feed != null ? hits : misses).increment();
+        return feed;
+    }
+
+    public synchronized void put(Long accountId, List<Long> studyIds, long computedAtGeneration) {
+        if (generation.get() == computedAtGeneration) {
+            feeds.put(accountId, studyIds.stream().mapToLong(Long::longValue).toArray());
+        }
+    }
+
+    /**
+     * 새로 공개한 스터디는 가장 최근에 공개한 스터디이므로 관심 있는 계정의 피드 맨 앞에 넣는다.
+     */
+    public void publishedAfterCommit(Long studyId, Collection<Long> interestedAccountIds) {
+        afterCommit(() -> {
+            for (Long accountId : interestedAccountIds) {
+                long[] feed = feeds.get(accountId);
+                if (feed != null) {
+                    feeds.put(accountId, LongStream.concat(LongStream.of(studyId), Arrays.stream(feed))
+                            .limit(FEED_SIZE).toArray());
+                }
+            }
+        });
+    }
+
+    /**
+     * 지금 관심 있는 계정과 이미 이 스터디가 피드에 들어 있는 계정의 피드를 지운다.
+     */
+    public void studyChangedAfterCommit(Long studyId, Collection<Long> interestedAccountIds) {
+        afterCommit(() -> {
+            interestedAccountIds.forEach(feeds::remove);
+            feeds.values().removeIf(feed -> Arrays.stream(feed).anyMatch(id -> id == studyId));
+        });
+    }
+
+    public void accountChangedAfterCommit(Long accountId) {
+        afterCommit(() -> feeds.remove(accountId));
+    }
+
+    private void afterCommit(Runnable change) {
+        Runnable apply = () -> {
+            synchronized (this) {
+                generation.incrementAndGet();
+                change.run();
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 적중률은 cache.gets 의 result=hit 와 result=miss 의 비율로 본다.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::doubleValue)
+                .tags("cache", "studyFeed", "result", "hit")
+                .description("The number of times the home feed was served from memory")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::doubleValue)
+                .tags("cache", "studyFeed", "result", "miss")
+                .description("The number of times the home feed had to be computed from the database")
+                .register(registry);
+        Gauge.builder("cache.size", this, StudyFeedCache::size)
+                .tags("cache", "studyFeed")
+                .description("The number of cached home feeds")
+                .register(registry);
+    }
+
+    private synchronized int size() {
+        return feeds.size();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.studyhyuck.study;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 스터디 화면 상단(배너, 스터디 정보, 메뉴)에 필요한 컬럼만 담은 읽기 전용 모델.
+ */
+@Getter
+public class StudyHeaderView {
+
+    private final Long id;
+    private final String path;
+    private final String title;
+    private final String shortDescription;
+    private final boolean published;
+    private final boolean closed;
+    private final boolean recruiting;
+    private final boolean useBanner;
+    private final String image;
+    private final int memberCount;
+
+    @Setter private List<TagView> tags = List.of();
+    @Setter private List<ZoneView> zones = List.of();
+
+    public StudyHeaderView(Long id, String path, String title, String shortDescription, boolean published,
+                           boolean closed, boolean recruiting, boolean useBanner, String image, int memberCount) {
+        this.id = id;
+        this.path = path;
+        this.title = title;
+        this.shortDescription = shortDescription;
+        this.published = published;
+        this.closed = closed;
+        this.recruiting = recruiting;
+        this.useBanner = useBanner;
+        this.image = image;
+        this.memberCount = memberCount;
+    }
+
+    public String getImage() {
+        return image != null ? image : "/images/default_banner.png";
+    }
+
+    public String getEncodedPath() {
+        return URLEncoder.encode(this.path, StandardCharsets.UTF_8);
+    }
+
+    public interface TagView {
+
+        String getTitle();
+    }
+
+    public interface ZoneView {
+
+        Long getId();
+
+        String getLocalNameOfCity();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.studyhyuck.study;
+
+import com.example.studyhyuck.domain.StudyMember;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface StudyMemberRepository extends JpaRepository<StudyMember, StudyMember.Key> {
+
+    @Query("select new com.example.studyhyuck.study.MemberView(a.id, a.nickname, a.bio, " +
+            "case when a.profileImage is null then false else true end, sm.joinedDateTime) " +
+            "from StudyMember sm join sm.account a where sm.study.id = :studyId " +
+            "order by sm.joinedDateTime, sm.account.id")
+    List<MemberView> findFirstMemberViews(@Param("studyId") Long studyId, Pageable pageable);
+
+    @Query("select new com.example.studyhyuck.study.MemberView(a.id, a.nickname, a.bio, " +
+            "case when a.profileImage is null then false else true end, sm.joinedDateTime) " +
+            "from StudyMember sm join sm.account a where sm.study.id = :studyId " +
+            "and (sm.joinedDateTime > :afterJoinedDateTime or (sm.joinedDateTime = :afterJoinedDateTime and sm.account.id > :afterId)) " +
+            "order by sm.joinedDateTime, sm.account.id")
+    List<MemberView> findMemberViewsAfter(@Param("studyId") Long studyId,
+                                          @Param("afterJoinedDateTime") LocalDateTime afterJoinedDateTime,
+                                          @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 이미 가입한 경우에는 아무 것도 넣지 않는다. 같은 요청이 동시에 들어와 둘 다 이 조건을 통과하면
+     * (study_id, members_id) 기본 키가 두 번째 insert 를 막는다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into study_members (study_id, members_id, joined_date_time) " +
+            "select :studyId, :accountId, :joinedDateTime from study s where s.id = :studyId " +
+            "and not exists (select 1 from study_members sm where sm.study_id = :studyId and sm.members_id = :accountId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("studyId") Long studyId, @Param("accountId") Long accountId,
+                       @Param("joinedDateTime") LocalDateTime joinedDateTime);
+
+    @Transactional
+    @Modifying
+    @Query("delete from StudyMember sm where sm.study.id = :studyId and sm.account.id = :accountId")
+    int deleteByStudyIdAndAccountId(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+}
@@ -0,0 +1,22 @@
+package com.example.studyhyuck.study;
+
+import lombok.Getter;
+
+@Getter
+public class StudyMembership {
+
+    public static final StudyMembership NONE = new StudyMembership(0L, 0L);
+
+    private final boolean member;
+
+    private final boolean manager;
+
+    public StudyMembership(long memberCount, long managerCount) {
+        this.member = memberCount > 0;
+        this.manager = managerCount > 0;
+    }
+
+    public boolean isJoinable(boolean published, boolean recruiting) {
+        return published && recruiting && !this.member && !this.manager;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.studyhyuck.study;
+
+import com.example.studyhyuck.account.UserAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 요청을 보낸 사용자가 스터디의 구성원/관리자인지를 요청마다 스터디당 한 번만 조회해서 보관한다.
+ * 화면의 여러 조각이 같은 값을 물어봐도 members, managers 컬렉션을 읽지 않는다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class StudyMembershipContext {
+
+    private final StudyRepository studyRepository;
+
+    private final Map<Long, StudyMembership> memberships = new HashMap<>();
+
+    public StudyMembership get(Long studyId) {
+        Long accountId = currentAccountId();
+        if (accountId == null) {
+            return StudyMembership.NONE;
+        }
+        return memberships.computeIfAbsent(studyId, id -> studyRepository.findMembership(id, accountId));
+    }
+
+    private Long currentAccountId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserAccount)) {
+            return null;
+        }
+        return ((UserAccount) authentication.getPrincipal()).getAccount().getId();
+    }
+}
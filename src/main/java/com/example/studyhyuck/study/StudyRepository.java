@@ -1,27 +1,187 @@
 package com.example.studyhyuck.study;
 
 import com.example.studyhyuck.domain.Study;
+import com.example.studyhyuck.study.search.StudyDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 @Transactional(readOnly = true)
 public interface StudyRepository extends JpaRepository<Study, Long> {
 
+    String SUMMARY_SELECT = "select new com.example.studyhyuck.study.StudySummaryView(s.id, s.path, s.title, " +
+            "s.shortDescription, s.recruiting, s.closed, s.memberCount, s.publishedDateTime) ";
+
+    String SEARCH_FROM = "from Study s where s.published = true and (" +
+            "lower(s.title) like :pattern escape '!' or lower(s.shortDescription) like :pattern escape '!' " +
+            "or exists (select t.id from s.tags t where lower(t.title) like :pattern escape '!') " +
+            "or exists (select z.id from s.zones z where lower(z.localNameOfCity) like :pattern escape '!')) ";
+
     boolean existsByPath(String path);
 
-    @EntityGraph(value = "Study.withAll", type = EntityGraph.EntityGraphType.LOAD)
+    boolean existsByPathAndPublishedTrue(String path);
+
+    long countByPublished(boolean published);
+
     Study findByPath(String path);
 
-    @EntityGraph(value = "Study.withTagsAndManagers", type = EntityGraph.EntityGraphType.FETCH)
+    @EntityGraph(value = "Study.withTags", type = EntityGraph.EntityGraphType.FETCH)
     Study findStudyWithTagsByPath(String path);
 
-    @EntityGraph(value = "Study.withZonesAndManagers", type = EntityGraph.EntityGraphType.FETCH)
+    @EntityGraph(value = "Study.withZones", type = EntityGraph.EntityGraphType.FETCH)
     Study findStudyWithZonesByPath(String path);
 
-    @EntityGraph(value = "Study.withManagers", type = EntityGraph.EntityGraphType.FETCH)
-    Study findStudyWithManagersByPath(String path);
+    @Query("select case when count(m) > 0 then true else false end from Study s join s.managers m " +
+            "where s.id = :studyId and m.id = :accountId")
+    boolean existsManager(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Query("select case when count(sm.account) > 0 then true else false end from StudyMember sm " +
+            "where sm.study.id = :studyId and sm.account.id = :accountId")
+    boolean existsMember(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Transactional
+    @Modifying
+    @Query("update Study s set s.memberCount = s.memberCount + 1 where s.id = :studyId")
+    int increaseMemberCount(@Param("studyId") Long studyId);
+
+    @Transactional
+    @Modifying
+    @Query("update Study s set s.memberCount = s.memberCount - 1 where s.id = :studyId and s.memberCount > 0")
+    int decreaseMemberCount(@Param("studyId") Long studyId);
+
+    /**
+     * 태그/지역 컬렉션을 읽지 않고 조인 테이블에 필요한 행만 넣고 지운다. 이미 있는 행은 건너뛴다.
+     * 스터디의 version 을 올리지 않으므로 여러 관리자가 동시에 바꿔도 충돌하지 않는다.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into study_tags (study_id, tags_id) select :studyId, t.id from tag t " +
+            "where t.id in :tagIds and not exists " +
+            "(select 1 from study_tags existing where existing.study_id = :studyId and existing.tags_id = t.id)",
+            nativeQuery = true)
+    int addTags(@Param("studyId") Long studyId, @Param("tagIds") Collection<Long> tagIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from study_tags where study_id = :studyId and tags_id in :tagIds", nativeQuery = true)
+    int removeTags(@Param("studyId") Long studyId, @Param("tagIds") Collection<Long> tagIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into study_zones (study_id, zones_id) select :studyId, z.id from zone z " +
+            "where z.id in :zoneIds and not exists " +
+            "(select 1 from study_zones existing where existing.study_id = :studyId and existing.zones_id = z.id)",
+            nativeQuery = true)
+    int addZones(@Param("studyId") Long studyId, @Param("zoneIds") Collection<Long> zoneIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from study_zones where study_id = :studyId and zones_id in :zoneIds", nativeQuery = true)
+    int removeZones(@Param("studyId") Long studyId, @Param("zoneIds") Collection<Long> zoneIds);
+
+    @Query("select new com.example.studyhyuck.study.StudyMembership(" +
+            "(select count(sm.account) from StudyMember sm where sm.study.id = s.id and sm.account.id = :accountId), " +
+            "(select count(m) from Study s2 join s2.managers m where s2.id = s.id and m.id = :accountId)) " +
+            "from Study s where s.id = :studyId")
+    StudyMembership findMembership(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Query("select new com.example.studyhyuck.study.StudyHeaderView(s.id, s.path, s.title, s.shortDescription, " +
+            "s.published, s.closed, s.recruiting, s.useBanner, s.image, s.memberCount) from Study s where s.path = :path")
+    StudyHeaderView findHeaderByPath(@Param("path") String path);
+
+    @Query("select t.title as title from Study s join s.tags t where s.id = :studyId order by t.title")
+    List<StudyHeaderView.TagView> findTagViews(@Param("studyId") Long studyId);
+
+    @Query("select z.id as id, z.localNameOfCity as localNameOfCity from Study s join s.zones z " +
+            "where s.id = :studyId order by z.localNameOfCity")
+    List<StudyHeaderView.ZoneView> findZoneViews(@Param("studyId") Long studyId);
+
+    @Query("select s.fullDescription from Study s where s.id = :studyId")
+    String findFullDescription(@Param("studyId") Long studyId);
+
+    @Query("select new com.example.studyhyuck.study.MemberView(m.id, m.nickname, m.bio, " +
+            "case when m.profileImage is null then false else true end) " +
+            "from Study s join s.managers m where s.id = :studyId order by m.nickname")
+    List<MemberView> findManagerViews(@Param("studyId") Long studyId);
+
+    /**
+     * 공개한 스터디를 (정렬 값, id) 내림차순으로 읽는다. 다음 페이지는 앞 페이지의 마지막 스터디 다음부터 찾으므로
+     * (published, 정렬 값, id) 인덱스를 따라 읽고, 몇 번째 페이지든 앞쪽 행을 건너뛰는 비용이 없다.
+     */
+    @Query(SUMMARY_SELECT + SEARCH_FROM + "order by s.publishedDateTime desc, s.id desc")
+    List<StudySummaryView> searchOrderByPublishedDateTime(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + SEARCH_FROM +
+            "and (s.publishedDateTime < :afterPublishedDateTime or (s.publishedDateTime = :afterPublishedDateTime and s.id < :afterId)) " +
+            "order by s.publishedDateTime desc, s.id desc")
+    List<StudySummaryView> searchOrderByPublishedDateTimeAfter(@Param("pattern") String pattern,
+                                                               @Param("afterPublishedDateTime") LocalDateTime afterPublishedDateTime,
+                                                               @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + SEARCH_FROM + "order by s.memberCount desc, s.id desc")
+    List<StudySummaryView> searchOrderByMemberCount(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + SEARCH_FROM +
+            "and (s.memberCount < :afterMemberCount or (s.memberCount = :afterMemberCount and s.id < :afterId)) " +
+            "order by s.memberCount desc, s.id desc")
+    List<StudySummaryView> searchOrderByMemberCountAfter(@Param("pattern") String pattern,
+                                                         @Param("afterMemberCount") int afterMemberCount,
+                                                         @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select s.id as studyId, t.title as title from Study s join s.tags t where s.id in :studyIds order by t.title")
+    List<StudySummaryView.TagTitle> findTagTitles(@Param("studyIds") Collection<Long> studyIds);
+
+    @Query("select s.id as studyId, z.localNameOfCity as localNameOfCity from Study s join s.zones z " +
+            "where s.id in :studyIds order by z.localNameOfCity")
+    List<StudySummaryView.ZoneName> findZoneNames(@Param("studyIds") Collection<Long> studyIds);
+
+    @Query(SUMMARY_SELECT + "from Study s where s.published = true and s.id in :studyIds")
+    List<StudySummaryView> findSummariesByIdIn(@Param("studyIds") Collection<Long> studyIds);
+
+    @Query("select s.id as id, s.title as title, s.shortDescription as shortDescription, s.fullDescription as fullDescription " +
+            "from Study s where s.published = true and s.id in :studyIds")
+    List<StudyDocument> findPublishedDocuments(@Param("studyIds") Collection<Long> studyIds);
+
+    @Query("select s.id as id, s.title as title, s.shortDescription as shortDescription, s.fullDescription as fullDescription " +
+            "from Study s where s.published = true and s.id > :afterId order by s.id")
+    List<StudyDocument> findPublishedDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 계정의 관심 태그 중 하나와 관심 지역 중 하나를 모두 가진, 공개 중이고 종료하지 않은 스터디를 최근 공개한 순으로 찾는다.
+     */
+    @Query(value = "select s.id from study s where s.published = true and s.closed = false " +
+            "and exists (select 1 from study_tags study_tag " +
+            "join account_tags account_tag on account_tag.tags_id = study_tag.tags_id " +
+            "where study_tag.study_id = s.id and account_tag.account_id = :accountId) " +
+            "and exists (select 1 from study_zones study_zone " +
+            "join account_zones account_zone on account_zone.zones_id = study_zone.zones_id " +
+            "where study_zone.study_id = s.id and account_zone.account_id = :accountId) " +
+            "order by s.published_date_time desc, s.id desc", nativeQuery = true)
+    List<Long> findFeedStudyIds(@Param("accountId") Long accountId, Pageable pageable);
+
+    @Query(value = "select distinct account_tag.account_id from account_tags account_tag " +
+            "join study_tags study_tag on study_tag.tags_id = account_tag.tags_id " +
+            "where study_tag.study_id = :studyId and exists (select 1 from account_zones account_zone " +
+            "join study_zones study_zone on study_zone.zones_id = account_zone.zones_id " +
+            "where study_zone.study_id = :studyId and account_zone.account_id = account_tag.account_id)", nativeQuery = true)
+    List<Long> findInterestedAccountIds(@Param("studyId") Long studyId);
+
+    @Query("select t.id from Study s join s.tags t where s.id = :studyId and s.published = true and s.closed = false")
+    Set<Long> findOpenStudyTagIds(@Param("studyId") Long studyId);
+
+    @Query("select z.id from Study s join s.zones z where s.id = :studyId and s.published = true and s.closed = false")
+    Set<Long> findOpenStudyZoneIds(@Param("studyId") Long studyId);
 
-    @EntityGraph(attributePaths = "members")
-    Study findStudyWithMembersByPath(String path);
+    @Query(value = "select study_id from study_members where members_id = :accountId " +
+            "union select study_id from study_managers where managers_id = :accountId", nativeQuery = true)
+    Set<Long> findJoinedStudyIds(@Param("accountId") Long accountId);
 }
@@ -1,16 +1,34 @@
 package com.example.studyhyuck.study;
 
+import com.example.studyhyuck.config.ReplicaRoutingDataSource;
+import com.example.studyhyuck.config.RetryOnConflict;
 import com.example.studyhyuck.domain.Account;
 import com.example.studyhyuck.domain.Study;
 import com.example.studyhyuck.domain.Tag;
 import com.example.studyhyuck.domain.Zone;
+import com.example.studyhyuck.recommendation.TagCooccurrenceIndex;
+import com.example.studyhyuck.statistics.StatisticsService;
 import com.example.studyhyuck.study.form.StudyDescriptionForm;
+import com.example.studyhyuck.study.form.StudySearchForm;
+import com.example.studyhyuck.study.search.StudySearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import static com.example.studyhyuck.study.form.StudyForm.VALID_PATH_PATTERN;
 
 
@@ -20,7 +38,12 @@ import static com.example.studyhyuck.study.form.StudyForm.VALID_PATH_PATTERN;
 public class StudyService {
 
     private final StudyRepository repository;
+    private final StudyMemberRepository studyMemberRepository;
     private final ModelMapper modelMapper;
+    private final StudySearchIndex searchIndex;
+    private final StudyFeedCache feedCache;
+    private final TagCooccurrenceIndex cooccurrenceIndex;
+    private final StatisticsService statisticsService;
 
     public Study createNewStudy(Study study, Account account) {
         Study newStudy = repository.save(study);
@@ -29,72 +52,272 @@ public class StudyService {
     }
 
     public Study getStudyToUpdate(Account account, String path) {
-        Study study = this.getStudy(path);
+        Study study = this.repository.findByPath(path);
+        checkIfExistingStudy(path, study);
         checkIfManager(account, study);
+        Hibernate.initialize(study.getTags());
+        Hibernate.initialize(study.getZones());
         return study;
     }
 
     public Study getStudy(String path) {
         Study study = this.repository.findByPath(path);
         checkIfExistingStudy(path, study);
+        initializeCollections(study);
         return study;
     }
 
+    /**
+     * 컬렉션을 한 번에 조인해서 가져오면 tags x zones x managers x members 만큼 행이 늘어나므로
+     * 컬렉션마다 별도의 쿼리로 초기화한다. 각 쿼리의 비용은 해당 컬렉션 크기에만 비례한다.
+     */
+    private void initializeCollections(Study study) {
+        Hibernate.initialize(study.getTags());
+        Hibernate.initialize(study.getZones());
+        Hibernate.initialize(study.getManagers());
+        Hibernate.initialize(study.getMembers());
+    }
+
+    @Transactional(readOnly = true)
+    public StudyHeaderView getStudyHeader(String path) {
+        StudyHeaderView study = repository.findHeaderByPath(path);
+        if (study == null) {
+            throw new IllegalArgumentException(path + "에 해당하는 스터디가 없습니다.");
+        }
+
+        study.setTags(repository.findTagViews(study.getId()));
+        study.setZones(repository.findZoneViews(study.getId()));
+        return study;
+    }
+
+    @Transactional(readOnly = true)
+    public String getFullDescription(StudyHeaderView study) {
+        return repository.findFullDescription(study.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<MemberView> getManagers(StudyHeaderView study) {
+        return repository.findManagerViews(study.getId());
+    }
+
+    /**
+     * 가입 순서대로 size 명씩 읽는다. 앞 페이지의 마지막 구성원(가입 시각, id) 다음부터 이어서 읽으므로
+     * 구성원이 많아도 앞쪽 행을 건너뛰는 비용이 없다.
+     */
+    @Transactional(readOnly = true)
+    public List<MemberView> getMembers(StudyHeaderView study, LocalDateTime afterJoinedDateTime, Long afterId, int size) {
+        if (afterJoinedDateTime == null || afterId == null) {
+            return studyMemberRepository.findFirstMemberViews(study.getId(), PageRequest.of(0, size));
+        }
+        return studyMemberRepository.findMemberViewsAfter(study.getId(), afterJoinedDateTime, afterId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 검색어가 제목, 짧은 소개, 태그, 지역 이름 중 하나에 들어 있는 공개 스터디를 size 개씩 읽는다.
+     * 정확도순은 본문까지 색인한 {@link StudySearchIndex} 에서 찾고, 찾은 스터디만 id 로 읽는다.
+     * 목록에 보여줄 태그와 지역은 읽어 온 스터디들에 대해 한 번씩만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<StudySummaryView> searchStudies(StudySearchForm searchForm, int size) {
+        String pattern = likePattern(searchForm.getKeyword());
+        PageRequest page = PageRequest.of(0, size);
+        List<StudySummaryView> studies;
+        if (searchForm.isSortByRelevance()) {
+            studies = searchByRelevance(searchForm, size);
+        } else if (searchForm.isSortByMemberCount()) {
+            studies = searchForm.getAfterMemberCount() == null || searchForm.getAfterId() == null
+                    ? repository.searchOrderByMemberCount(pattern, page)
+                    : repository.searchOrderByMemberCountAfter(pattern, searchForm.getAfterMemberCount(), searchForm.getAfterId(), page);
+        } else {
+            studies = searchForm.getAfterPublishedDateTime() == null || searchForm.getAfterId() == null
+                    ? repository.searchOrderByPublishedDateTime(pattern, page)
+                    : repository.searchOrderByPublishedDateTimeAfter(pattern, searchForm.getAfterPublishedDateTime(), searchForm.getAfterId(), page);
+        }
+
+        fillTagsAndZones(studies);
+        return studies;
+    }
+
+    /**
+     * 관심 태그와 지역에 맞는 최근 스터디. 계정마다 계산해 둔 id 목록({@link StudyFeedCache})이 있으면 그 스터디만 읽고,
+     * 없으면 조인 테이블로 계산해서 담아 둔다. 담아 둔 목록은 다음 변경 전까지 계속 쓰므로 복제가 늦은 replica 대신 primary 에서 계산한다.
+     */
+    @Transactional(readOnly = true)
+    public List<StudySummaryView> getStudyFeed(Account account) {
+        long[] cached = feedCache.get(account.getId());
+        List<Long> studyIds;
+        if (cached != null) {
+            studyIds = Arrays.stream(cached).boxed().collect(Collectors.toList());
+        } else {
+            long generation = feedCache.generation();
+            ReplicaRoutingDataSource.readFromPrimary();
+            studyIds = repository.findFeedStudyIds(account.getId(), PageRequest.of(0, StudyFeedCache.FEED_SIZE));
+            feedCache.put(account.getId(), studyIds, generation);
+        }
+
+        return getStudySummaries(studyIds);
+    }
+
+    /**
+     * 주어진 순서대로 공개 스터디 목록을 읽는다. 공개하지 않았거나 없는 스터디는 빠진다.
+     */
+    @Transactional(readOnly = true)
+    public List<StudySummaryView> getStudySummaries(List<Long> studyIds) {
+        List<StudySummaryView> studies = findSummariesInOrder(studyIds);
+        fillTagsAndZones(studies);
+        return studies;
+    }
+
+    private List<StudySummaryView> findSummariesInOrder(List<Long> studyIds) {
+        if (studyIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, StudySummaryView> studies = repository.findSummariesByIdIn(studyIds).stream()
+                .collect(Collectors.toMap(StudySummaryView::getId, Function.identity()));
+        return studyIds.stream().filter(studies::containsKey).map(studies::get).collect(Collectors.toList());
+    }
+
+    private void fillTagsAndZones(List<StudySummaryView> studies) {
+        if (!studies.isEmpty()) {
+            List<Long> studyIds = studies.stream().map(StudySummaryView::getId).collect(Collectors.toList());
+            Map<Long, List<String>> tags = repository.findTagTitles(studyIds).stream()
+                    .collect(Collectors.groupingBy(StudySummaryView.TagTitle::getStudyId,
+                            Collectors.mapping(StudySummaryView.TagTitle::getTitle, Collectors.toList())));
+            Map<Long, List<String>> zones = repository.findZoneNames(studyIds).stream()
+                    .collect(Collectors.groupingBy(StudySummaryView.ZoneName::getStudyId,
+                            Collectors.mapping(StudySummaryView.ZoneName::getLocalNameOfCity, Collectors.toList())));
+            studies.forEach(study -> {
+                study.setTags(tags.getOrDefault(study.getId(), List.of()));
+                study.setZones(zones.getOrDefault(study.getId(), List.of()));
+            });
+        }
+    }
+
+    private List<StudySummaryView> searchByRelevance(StudySearchForm searchForm, int size) {
+        List<StudySearchIndex.Hit> hits = searchIndex.search(searchForm.getKeyword(), searchForm.getAfterScore(), searchForm.getAfterId(), size);
+        List<StudySummaryView> studies = findSummariesInOrder(
+                hits.stream().map(StudySearchIndex.Hit::getStudyId).collect(Collectors.toList()));
+        Map<Long, Double> scores = hits.stream()
+                .collect(Collectors.toMap(StudySearchIndex.Hit::getStudyId, StudySearchIndex.Hit::getScore));
+        studies.forEach(study -> study.setScore(scores.get(study.getId())));
+        return studies;
+    }
+
+    /**
+     * 검색어에 들어 있는 LIKE 특수 문자는 '!' 로 이스케이프해서 글자 그대로 찾는다.
+     */
+    private String likePattern(String keyword) {
+        String escaped = keyword == null ? "" : keyword.trim().toLowerCase()
+                .replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
     public void updateStudyDescription(Study study, StudyDescriptionForm studyDescriptionForm) {
-        modelMapper.map(studyDescriptionForm, study);   // Update 쿼리 발생
+        Study current = reload(study);
+        if (!Objects.equals(current.getVersion(), studyDescriptionForm.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Study.class, study.getId());
+        }
+        modelMapper.map(studyDescriptionForm, current);   // Update 쿼리 발생
+        searchIndex.reindexAfterCommit(study.getId());
     }
 
     public void updateStudyImage(Study study, String image) {
-        study.setImage(image);
+        reload(study).setImage(image);
     }
 
     public void enableStudyBanner(Study study) {
-        study.setUseBanner(true);
+        reload(study).setUseBanner(true);
     }
 
     public void disableStudyBanner(Study study) {
-        study.setUseBanner(false);
+        reload(study).setUseBanner(false);
     }
 
     public void addTag(Study study, Tag tag) {
-        study.getTags().add(tag);
+        updateTags(study, List.of(tag), List.of());
     }
 
     public void removeTag(Study study, Tag tag) {
-        study.getTags().remove(tag);
+        updateTags(study, List.of(), List.of(tag));
+    }
+
+    /**
+     * 바뀐 태그만 조인 테이블에 넣고 지운다. 컬렉션을 읽어서 통째로 지우고 다시 넣지 않고, 스터디 version 도 올리지 않는다.
+     */
+    public void updateTags(Study study, Collection<Tag> tagsToAdd, Collection<Tag> tagsToRemove) {
+        if (!tagsToRemove.isEmpty()) {
+            repository.removeTags(study.getId(), tagsToRemove.stream().map(Tag::getId).collect(Collectors.toSet()));
+        }
+        if (!tagsToAdd.isEmpty()) {
+            repository.addTags(study.getId(), tagsToAdd.stream().map(Tag::getId).collect(Collectors.toSet()));
+        }
+        searchIndex.reindexAfterCommit(study.getId());
+        cooccurrenceIndex.studyChangedAfterCommit(study.getId());
+        refreshFeeds(study);
     }
 
     public void addZone(Study study, Zone zone) {
-        study.getZones().add(zone);
+        updateZones(study, List.of(zone), List.of());
     }
 
     public void removeZone(Study study, Zone zone) {
-        study.getZones().remove(zone);
+        updateZones(study, List.of(), List.of(zone));
+    }
+
+    public void updateZones(Study study, Collection<Zone> zonesToAdd, Collection<Zone> zonesToRemove) {
+        if (!zonesToRemove.isEmpty()) {
+            repository.removeZones(study.getId(), zonesToRemove.stream().map(Zone::getId).collect(Collectors.toSet()));
+        }
+        if (!zonesToAdd.isEmpty()) {
+            repository.addZones(study.getId(), zonesToAdd.stream().map(Zone::getId).collect(Collectors.toSet()));
+        }
+        searchIndex.reindexAfterCommit(study.getId());
+        cooccurrenceIndex.studyChangedAfterCommit(study.getId());
+        refreshFeeds(study);
+    }
+
+    /**
+     * 공개하지 않은 스터디는 어느 피드에도 없으므로 건너뛴다.
+     */
+    private void refreshFeeds(Study study) {
+        if (study.isPublished()) {
+            feedCache.studyChangedAfterCommit(study.getId(), repository.findInterestedAccountIds(study.getId()));
+        }
+    }
+
+    /**
+     * open-in-view 를 끄므로 컨트롤러가 넘긴 스터디는 앞선 트랜잭션에서 읽은 준영속 엔티티다.
+     * 고친 내용이 커밋되도록 이 트랜잭션에서 다시 읽어서 바꾼다. 같은 트랜잭션에서 이미 읽은 스터디면 그대로 돌려준다.
+     * 충돌 후 다시 시도할 때는 롤백으로 영속성 컨텍스트가 비워졌으므로 최신 버전을 읽는다.
+     */
+    private Study reload(Study study) {
+        return repository.findById(study.getId()).orElseThrow();
     }
 
     public Study getStudyToUpdateTag(Account account, String path) {
-        Study study = repository.findStudyWithTagsByPath(path);
+        Study study = repository.findByPath(path);
         checkIfExistingStudy(path, study);
         checkIfManager(account, study);
         return study;
     }
 
     public Study getStudyToUpdateZone(Account account, String path) {
-        Study study = repository.findStudyWithZonesByPath(path);
+        Study study = repository.findByPath(path);
         checkIfExistingStudy(path, study);
         checkIfManager(account, study);
         return study;
     }
 
     public Study getStudyToUpdateStatus(Account account, String path) {
-        Study study = repository.findStudyWithManagersByPath(path);
+        Study study = repository.findByPath(path);
         checkIfExistingStudy(path, study);
         checkIfManager(account, study);
         return study;
     }
 
     private void checkIfManager(Account account, Study study) {
-        if (!account.isManagerOf(study)) {
+        if (!repository.existsManager(study.getId(), account.getId())) {
             throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
         }
     }
@@ -106,19 +329,33 @@ public class StudyService {
     }
 
     public void publish(Study study) {
-        study.publish();
+        reload(study).publish();
+        searchIndex.reindexAfterCommit(study.getId());
+        feedCache.publishedAfterCommit(study.getId(), repository.findInterestedAccountIds(study.getId()));
+        cooccurrenceIndex.studyChangedAfterCommit(study.getId());
+        statisticsService.studyPublishedAfterCommit();
     }
 
     public void close(Study study) {
-        study.close();
+        reload(study).close();
+        feedCache.studyChangedAfterCommit(study.getId(), List.of());
+        cooccurrenceIndex.studyChangedAfterCommit(study.getId());
     }
 
+    @RetryOnConflict
     public void startRecruit(Study study) {
-        study.startRecruit();
+        Study current = reload(study);
+        if (!current.isRecruiting()) {
+            current.startRecruit();
+        }
     }
 
+    @RetryOnConflict
     public void stopRecruit(Study study) {
-        study.stopRecruit();
+        Study current = reload(study);
+        if (current.isRecruiting()) {
+            current.stopRecruit();
+        }
     }
 
     public boolean isValidPath(String newPath) {
@@ -130,7 +367,7 @@ public class StudyService {
     }
 
     public void updateStudyPath(Study study, String newPath) {
-        study.setPath(newPath);
+        reload(study).setPath(newPath);
     }
 
     public boolean isValidTitle(String newTitle) {
@@ -138,23 +375,33 @@ public class StudyService {
     }
 
     public void updateStudyTitle(Study study, String newTitle) {
-        study.setTitle(newTitle);
+        reload(study).setTitle(newTitle);
+        searchIndex.reindexAfterCommit(study.getId());
     }
 
     public void remove(Study study) {
         if (study.isRemovable()) {
-            repository.delete(study);
+            repository.delete(reload(study));
+            searchIndex.reindexAfterCommit(study.getId());
         } else {
             throw new IllegalArgumentException("스터디를 삭제할 수 없습니다.");
         }
     }
 
+    /**
+     * 구성원 컬렉션을 읽지 않고 조인 테이블에 바로 넣고, 실제로 한 행이 들어갔을 때만 DB 에서 memberCount 를 올린다.
+     * 동시에 들어온 같은 가입 요청은 기본 키 제약으로 DataIntegrityViolationException 이 난다.
+     */
     public void addMember(Study study, Account account) {
-        study.addMember(account);
+        if (studyMemberRepository.insertIfAbsent(study.getId(), account.getId(), LocalDateTime.now()) > 0) {
+            repository.increaseMemberCount(study.getId());
+        }
     }
 
     public void removeMember(Study study, Account account) {
-        study.removeMember(account);
+        if (studyMemberRepository.deleteByStudyIdAndAccountId(study.getId(), account.getId()) > 0) {
+            repository.decreaseMemberCount(study.getId());
+        }
     }
 
 }
@@ -6,26 +6,36 @@ import com.example.studyhyuck.domain.Study;
 import com.example.studyhyuck.domain.Tag;
 import com.example.studyhyuck.domain.Zone;
 import com.example.studyhyuck.settings.form.TagForm;
+import com.example.studyhyuck.settings.form.TagsForm;
 import com.example.studyhyuck.settings.form.ZoneForm;
+import com.example.studyhyuck.settings.form.ZonesForm;
 import com.example.studyhyuck.study.form.StudyDescriptionForm;
 import com.example.studyhyuck.tag.TagRepository;
 import com.example.studyhyuck.tag.TagService;
 import com.example.studyhyuck.zone.ZoneRepository;
+import com.example.studyhyuck.zone.ZoneService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Controller
@@ -37,6 +47,7 @@ public class StudySettingsController {
     private final TagService tagService;
     private final TagRepository tagRepository;
     private final ZoneRepository zoneRepository;
+    private final ZoneService zoneService;
     private final ObjectMapper objectMapper;
     private final ModelMapper modelMapper;
 
@@ -52,7 +63,7 @@ public class StudySettingsController {
     @PostMapping("/description")
     public String viewStudySetting(@CurrentAccount Account account, @PathVariable String path,
                                    @Valid StudyDescriptionForm studyDescriptionForm, Errors errors,
-                                   Model model, RedirectAttributes attributes) {
+                                   Model model, RedirectAttributes attributes, HttpServletResponse response) {
         Study study = studyService.getStudyToUpdate(account, path);
 
         if (errors.hasErrors()) {
@@ -61,7 +72,17 @@ public class StudySettingsController {
             return "study/settings/description";
         }
 
-        studyService.updateStudyDescription(study, studyDescriptionForm);
+        try {
+            studyService.updateStudyDescription(study, studyDescriptionForm);
+        } catch (OptimisticLockingFailureException e) {
+            Study current = studyService.getStudyToUpdate(account, path);
+            studyDescriptionForm.setVersion(current.getVersion());
+            response.setStatus(HttpServletResponse.SC_CONFLICT);
+            model.addAttribute(account);
+            model.addAttribute(current);
+            model.addAttribute("message", "다른 관리자가 먼저 스터디 소개를 수정했습니다. 최신 내용을 확인하고 다시 저장하세요.");
+            return "study/settings/description";
+        }
         attributes.addFlashAttribute("message", "스터디 소개를 수정했습니다.");
         return "redirect:/study/" + study.getEncodedPath() + "/settings/description";
     }
@@ -115,6 +136,20 @@ public class StudySettingsController {
         return "study/settings/tags";
     }
 
+    /**
+     * 화면에서 모아 둔 변경분({add:[...], remove:[...]})을 한 번에 반영한다.
+     */
+    @PostMapping("/tags")
+    @ResponseBody
+    public ResponseEntity changeTags(@CurrentAccount Account account, @PathVariable String path,
+                                     @RequestBody TagsForm tagsForm) {
+        Study study = studyService.getStudyToUpdateTag(account, path);
+        List<Tag> tagsToAdd = tagService.findOrCreateAll(tagsForm.getAdd());
+        List<Tag> tagsToRemove = tagService.findAllByTitles(tagsForm.getRemove());
+        studyService.updateTags(study, tagsToAdd, tagsToRemove);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/tags/add")
     @ResponseBody
     public ResponseEntity addTag(@CurrentAccount Account account, @PathVariable String path,
@@ -152,6 +187,22 @@ public class StudySettingsController {
         return "study/settings/zones";
     }
 
+    @PostMapping("/zones")
+    @ResponseBody
+    public ResponseEntity changeZones(@CurrentAccount Account account, @PathVariable String path,
+                                      @RequestBody ZonesForm zonesForm) {
+        Study study = studyService.getStudyToUpdateZone(account, path);
+        List<Zone> zonesToAdd = zoneService.findAllByNames(zonesForm.getAdd());
+        List<Zone> zonesToRemove = zoneService.findAllByNames(zonesForm.getRemove());
+        if (zonesToAdd.size() != Set.copyOf(zonesForm.getAdd()).size()
+                || zonesToRemove.size() != Set.copyOf(zonesForm.getRemove()).size()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        studyService.updateZones(study, zonesToAdd, zonesToRemove);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/zones/add")
     @ResponseBody
     public ResponseEntity addZone(@CurrentAccount Account account, @PathVariable String path,
@@ -241,14 +292,14 @@ public class StudySettingsController {
         Study study = studyService.getStudyToUpdateStatus(account, path);
         if (!studyService.isValidPath(newPath)) {
             model.addAttribute(account);
-            model.addAttribute(study);
+            model.addAttribute(studyService.getStudyToUpdate(account, path));
             model.addAttribute("studyPathError", "해당 스터디 경로는 사용할 수 없습니다. 다른 값을 입력하세요.");
             return "study/settings/study";
         }
 
         studyService.updateStudyPath(study, newPath);
         attributes.addFlashAttribute("message", "스터디 경로를 수정했습니다.");
-        return "redirect:/study/" + study.getEncodedPath() + "/settings/study";
+        return "redirect:/study/" + URLEncoder.encode(newPath, StandardCharsets.UTF_8) + "/settings/study";
     }
 
     @PostMapping("/study/title")
@@ -257,7 +308,7 @@ public class StudySettingsController {
         Study study = studyService.getStudyToUpdateStatus(account, path);
         if (!studyService.isValidTitle(newTitle)) {
             model.addAttribute(account);
-            model.addAttribute(study);
+            model.addAttribute(studyService.getStudyToUpdate(account, path));
             model.addAttribute("studyTitleError", "스터디 이름을 다시 입력하세요.");
             return "study/settings/study";
         }
@@ -274,4 +325,18 @@ public class StudySettingsController {
         return "redirect:/";
     }
 
+    /**
+     * 다시 시도하지 않는 설정 변경이 다른 관리자의 변경과 충돌하면 최신 설정 화면으로 돌려보낸다.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    // URI_TEMPLATE_VARIABLES_ATTRIBUTE 에는 HandlerMapping 이 항상 Map<String, String> 을 넣는다. (HandlerMapping 문서 참고)
+    @SuppressWarnings("unchecked")
+    public String handleConflict(HttpServletRequest request) {
+        Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String path = pathVariables.get("path");
+        RequestContextUtils.getOutputFlashMap(request)
+                .put("message", "다른 관리자가 먼저 설정을 바꿨습니다. 최신 설정을 확인하고 다시 시도하세요.");
+        return "redirect:/study/" + URLEncoder.encode(path, StandardCharsets.UTF_8) + "/settings/study";
+    }
+
 }
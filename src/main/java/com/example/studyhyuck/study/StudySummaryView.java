@@ -0,0 +1,49 @@
+package com.example.studyhyuck.study;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스터디 목록(검색 결과)의 한 줄에 필요한 컬럼만 담은 읽기 전용 모델.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudySummaryView {
+
+    private final Long id;
+    private final String path;
+    private final String title;
+    private final String shortDescription;
+    private final boolean recruiting;
+    private final boolean closed;
+    private final int memberCount;
+    private final LocalDateTime publishedDateTime;
+
+    @Setter private List<String> tags = List.of();
+    @Setter private List<String> zones = List.of();
+
+    /**
+     * 정확도순으로 찾았을 때의 BM25 점수. 다음 페이지를 이어서 찾는 데 쓴다.
+     */
+    @Setter private Double score;
+
+    public String getEncodedPath() {
+        return URLEncoder.encode(this.path, StandardCharsets.UTF_8);
+    }
+
+    public interface TagTitle {
+        Long getStudyId();
+        String getTitle();
+    }
+
+    public interface ZoneName {
+        Long getStudyId();
+        String getLocalNameOfCity();
+    }
+}
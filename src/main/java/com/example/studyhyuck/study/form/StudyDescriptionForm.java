@@ -17,4 +17,6 @@ public class StudyDescriptionForm {
     @NotBlank
     private String fullDescription;
 
+    private Long version;
+
 }
@@ -0,0 +1,43 @@
+package com.example.studyhyuck.study.form;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색어, 정렬 기준과 앞 페이지의 마지막 스터디(정렬 값, id). 마지막 스터디가 없으면 첫 페이지를 읽는다.
+ */
+@Data
+public class StudySearchForm {
+
+    public static final String SORT_BY_PUBLISHED_DATE_TIME = "publishedDateTime";
+    public static final String SORT_BY_MEMBER_COUNT = "memberCount";
+    public static final String SORT_BY_RELEVANCE = "relevance";
+
+    private String keyword = "";
+
+    private String sort = SORT_BY_PUBLISHED_DATE_TIME;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime afterPublishedDateTime;
+
+    private Integer afterMemberCount;
+
+    private Double afterScore;
+
+    private Long afterId;
+
+    public boolean isSortByMemberCount() {
+        return SORT_BY_MEMBER_COUNT.equals(sort);
+    }
+
+    /**
+     * 검색어가 없으면 점수를 매길 수 없으므로 공개일 순으로 보여준다.
+     */
+    public boolean isSortByRelevance() {
+        return SORT_BY_RELEVANCE.equals(sort) && StringUtils.hasText(keyword);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.example.studyhyuck.study.search;
+
+/**
+ * 색인할 스터디 글. 태그와 지역 이름은 따로 읽어서 함께 색인한다.
+ */
+public interface StudyDocument {
+    Long getId();
+    String getTitle();
+    String getShortDescription();
+    String getFullDescription();
+}
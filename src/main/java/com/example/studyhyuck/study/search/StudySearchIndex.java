@@ -0,0 +1,311 @@
+package com.example.studyhyuck.study.search;
+
+import com.example.studyhyuck.study.StudyRepository;
+import com.example.studyhyuck.study.StudySummaryView;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 공개한 스터디의 제목, 짧은 소개, 본문, 태그, 지역 이름을 메모리에 역색인해 두고 BM25 점수 순으로 찾는다.
+ * 본문(HTML)을 LIKE 로 훑지 않고 검색어가 들어 있는 스터디만 바로 꺼낸다.
+ * DB 가 원본이고, 색인은 애플리케이션이 뜰 때 DB 에서 다시 만들고 스터디가 바뀌면 커밋된 뒤에 그 스터디만 고친다.
+ * 색인은 인스턴스마다 따로 있어서 다른 인스턴스에서 바꾼 스터디는 주기적으로 다시 만들 때 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    static final float TITLE_WEIGHT = 3;
+    static final float SHORT_DESCRIPTION_WEIGHT = 2;
+    static final float TAG_WEIGHT = 2;
+    static final float ZONE_WEIGHT = 2;
+    static final float FULL_DESCRIPTION_WEIGHT = 1;
+
+    static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final Comparator<Hit> BEST_FIRST =
+            Comparator.comparingDouble(Hit::getScore).thenComparing(Hit::getStudyId).reversed();
+
+    private final StudyRepository repository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 색인어 -> (스터디 id -> 필드 가중치를 곱한 출현 횟수)
+     */
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    /**
+     * 스터디 id -> 색인어별 가중 출현 횟수. 다시 색인할 때 예전 색인어를 지우고 문서 길이를 구하는 데 쓴다.
+     */
+    private final Map<Long, Map<String, Float>> documents = new HashMap<>();
+
+    private final Map<Long, Float> lengths = new HashMap<>();
+
+    private double totalLength;
+
+    /**
+     * 다시 만드는 동안 고친 스터디 id. 다시 만든 색인은 그 전에 읽은 값이므로 바꿔 끼운 뒤에 이 스터디들을 다시 읽는다.
+     */
+    private Set<Long> changedDuringRebuild;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hit {
+        private final Long studyId;
+        private final double score;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.search-index-refresh-interval:600000}",
+            fixedDelayString = "${app.search-index-refresh-interval:600000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, Map<String, Float>> analyzed = new HashMap<>();
+        Long afterId = 0L;
+        List<StudyDocument> batch;
+        do {
+            batch = repository.findPublishedDocumentsAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (!batch.isEmpty()) {
+                analyzed.putAll(analyze(batch));
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        Set<Long> changed;
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            lengths.clear();
+            totalLength = 0;
+            analyzed.forEach(this::put);
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (!changed.isEmpty()) {
+            apply(changed, analyze(repository.findPublishedDocuments(changed)));
+        }
+        log.info("indexed {} studies with {} terms, {} changed while rebuilding", analyzed.size(), postings.size(), changed.size());
+    }
+
+    /**
+     * 트랜잭션 안에서 부르면 커밋 직전에 바뀐 스터디를 읽어 두었다가 커밋된 뒤에 색인에 반영한다.
+     * 롤백되면 색인은 그대로다. 공개하지 않았거나 삭제한 스터디는 색인에서 빠진다.
+     */
+    public void reindexAfterCommit(Long studyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(Set.of(studyId), analyze(repository.findPublishedDocuments(Set.of(studyId))));
+            return;
+        }
+
+        PendingStudies pending = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(PendingStudies.class::isInstance)
+                .map(PendingStudies.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    PendingStudies newPending = new PendingStudies();
+                    TransactionSynchronizationManager.registerSynchronization(newPending);
+                    return newPending;
+                });
+        pending.studyIds.add(studyId);
+    }
+
+    /**
+     * 검색어의 색인어가 모두 들어 있는 스터디를 점수가 높은 순(같으면 id 가 큰 순)으로 size 개 찾는다.
+     * 앞 페이지의 마지막 스터디(점수, id)를 주면 그 다음부터 찾는다.
+     */
+    public List<Hit> search(String keyword, Double afterScore, Long afterId, int size) {
+        List<String> terms = StudyTextAnalyzer.analyze(keyword).stream().distinct().collect(Collectors.toList());
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Float>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Float> posting = postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+
+            int numberOfDocuments = documents.size();
+            double averageLength = totalLength / numberOfDocuments;
+            double[] idf = termPostings.stream()
+                    .mapToDouble(posting -> Math.log(1 + (numberOfDocuments - posting.size() + 0.5) / (posting.size() + 0.5)))
+                    .toArray();
+            Map<Long, Float> rarest = termPostings.stream().min(Comparator.comparingInt(Map::size)).orElseThrow();
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(size + 1, BEST_FIRST.reversed());
+            for (Long studyId : rarest.keySet()) {
+                double normalizedLength = K1 * (1 - B + B * lengths.get(studyId) / averageLength);
+                double score = 0;
+                boolean matchesAllTerms = true;
+                for (int i = 0; i < termPostings.size(); i++) {
+                    Float frequency = termPostings.get(i).get(studyId);
+                    if (frequency == null) {
+                        matchesAllTerms = false;
+                        break;
+                    }
+                    score += idf[i] * frequency * (K1 + 1) / (frequency + normalizedLength);
+                }
+                if (!matchesAllTerms || !isAfter(score, studyId, afterScore, afterId)) {
+                    continue;
+                }
+
+                top.add(new Hit(studyId, score));
+                if (top.size() > size) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(BEST_FIRST);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isAfter(double score, Long studyId, Double afterScore, Long afterId) {
+        if (afterScore == null || afterId == null) {
+            return true;
+        }
+        return score < afterScore || (score == afterScore && studyId < afterId);
+    }
+
+    private Map<Long, Map<String, Float>> analyze(List<StudyDocument> studies) {
+        if (studies.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> studyIds = studies.stream().map(StudyDocument::getId).collect(Collectors.toList());
+        Map<Long, List<String>> tags = repository.findTagTitles(studyIds).stream()
+                .collect(Collectors.groupingBy(StudySummaryView.TagTitle::getStudyId,
+                        Collectors.mapping(StudySummaryView.TagTitle::getTitle, Collectors.toList())));
+        Map<Long, List<String>> zones = repository.findZoneNames(studyIds).stream()
+                .collect(Collectors.groupingBy(StudySummaryView.ZoneName::getStudyId,
+                        Collectors.mapping(StudySummaryView.ZoneName::getLocalNameOfCity, Collectors.toList())));
+
+        Map<Long, Map<String, Float>> analyzed = new HashMap<>();
+        for (StudyDocument study : studies) {
+            Map<String, Float> frequencies = new HashMap<>();
+            count(frequencies, StudyTextAnalyzer.analyze(study.getTitle()), TITLE_WEIGHT);
+            count(frequencies, StudyTextAnalyzer.analyze(study.getShortDescription()), SHORT_DESCRIPTION_WEIGHT);
+            count(frequencies, StudyTextAnalyzer.analyzeHtml(study.getFullDescription()), FULL_DESCRIPTION_WEIGHT);
+            tags.getOrDefault(study.getId(), List.of())
+                    .forEach(tag -> count(frequencies, StudyTextAnalyzer.analyze(tag), TAG_WEIGHT));
+            zones.getOrDefault(study.getId(), List.of())
+                    .forEach(zone -> count(frequencies, StudyTextAnalyzer.analyze(zone), ZONE_WEIGHT));
+            analyzed.put(study.getId(), frequencies);
+        }
+        return analyzed;
+    }
+
+    private void count(Map<String, Float> frequencies, List<String> terms, float weight) {
+        terms.forEach(term -> frequencies.merge(term, weight, Float::sum));
+    }
+
+    private void apply(Collection<Long> studyIds, Map<Long, Map<String, Float>> analyzed) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(studyIds);
+            }
+            for (Long studyId : studyIds) {
+                remove(studyId);
+                Map<String, Float> frequencies = analyzed.get(studyId);
+                if (frequencies != null) {
+                    put(studyId, frequencies);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Long studyId, Map<String, Float> frequencies) {
+        float length = 0;
+        for (Map.Entry<String, Float> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(studyId, entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(studyId, frequencies);
+        lengths.put(studyId, length);
+        totalLength += length;
+    }
+
+    private void remove(Long studyId) {
+        Map<String, Float> frequencies = documents.remove(studyId);
+        if (frequencies == null) {
+            return;
+        }
+
+        for (String term : frequencies.keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            posting.remove(studyId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= lengths.remove(studyId);
+    }
+
+    /**
+     * 한 트랜잭션에서 바뀐 스터디들. 커밋 직전(아직 트랜잭션 안)에 읽어야 바뀐 내용이 보이고,
+     * 커밋된 뒤에 색인에 넣어야 롤백된 내용이 검색되지 않는다.
+     */
+    private class PendingStudies implements TransactionSynchronization {
+
+        private final Set<Long> studyIds = new HashSet<>();
+
+        private Map<Long, Map<String, Float>> analyzed = Map.of();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            analyzed = analyze(repository.findPublishedDocuments(studyIds));
+        }
+
+        @Override
+        public void afterCommit() {
+            apply(studyIds, analyzed);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.studyhyuck.study.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 스터디 글을 색인어로 나눈다. HTML 태그를 걷어내고 한글은 두 글자씩(bigram), 영문과 숫자는 단어 단위로 자른 뒤
+ * 영문 단어는 복수형과 -ing, -ed 어미를 떼어 낸다. 색인과 검색어에 똑같이 적용해야 서로 맞는다.
+ */
+final class StudyTextAnalyzer {
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern HTML_ENTITY = Pattern.compile("&(#\\d+|#x[0-9a-fA-F]+|[a-zA-Z]+);");
+
+    private StudyTextAnalyzer() {
+    }
+
+    static List<String> analyzeHtml(String html) {
+        if (html == null) {
+            return List.of();
+        }
+        String text = HTML_ENTITY.matcher(HTML_TAG.matcher(html).replaceAll(" ")).replaceAll(" ");
+        return analyze(text);
+    }
+
+    static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = 0;
+        while (start < lowerCase.length()) {
+            int codePoint = lowerCase.codePointAt(start);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                start += Character.charCount(codePoint);
+                continue;
+            }
+
+            boolean bigram = isBigramScript(codePoint);
+            int end = start;
+            while (end < lowerCase.length()) {
+                int next = lowerCase.codePointAt(end);
+                if (!Character.isLetterOrDigit(next) || isBigramScript(next) != bigram) {
+                    break;
+                }
+                end += Character.charCount(next);
+            }
+
+            String token = lowerCase.substring(start, end);
+            if (bigram) {
+                addBigrams(token, terms);
+            } else {
+                terms.add(stem(token));
+            }
+            start = end;
+        }
+        return terms;
+    }
+
+    /**
+     * 한 글자 낱말은 그대로 두고, 두 글자 이상이면 겹치는 두 글자씩 자른다. '스프링부트' 는 스프, 프링, 링부, 부트가 된다.
+     */
+    private static void addBigrams(String token, List<String> terms) {
+        int[] codePoints = token.codePoints().toArray();
+        if (codePoints.length == 1) {
+            terms.add(token);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            terms.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isBigramScript(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    /**
+     * 어간이 네 글자 이상 남을 때만 어미를 떼어서 spring, used 처럼 짧은 단어가 뭉개지지 않게 한다.
+     */
+    static String stem(String word) {
+        if (word.endsWith("ies") && word.length() > 4) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.endsWith("ied") && word.length() > 4) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.endsWith("sses")) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.endsWith("ing") && word.length() >= 7) {
+            return word.substring(0, word.length() - 3);
+        }
+        if (word.endsWith("ed") && word.length() >= 6) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && word.length() > 3) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+}
@@ -4,10 +4,14 @@ import com.example.studyhyuck.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Transactional(readOnly = true)
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryExtension {
 //    Optional<Tag> findByTitle(String title);
     Tag findByTitle(String title);
+
+    List<Tag> findByTitleIn(Collection<String> titles);
 }
@@ -0,0 +1,11 @@
+package com.example.studyhyuck.tag;
+
+public interface TagRepositoryExtension {
+
+    /**
+     * 같은 제목의 태그가 없을 때만 만들고, 새로 만든 태그나 이미 있던 태그의 id 를 돌려준다.
+     * 동시에 같은 태그를 만들어도 예외 없이 하나만 남는다.
+     */
+    Long insertIfAbsent(String title);
+
+}
@@ -0,0 +1,96 @@
+package com.example.studyhyuck.tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * DB 마다 upsert 문법이 달라서 JPQL 대신 DB 에 맞는 SQL 을 직접 실행한다.
+ * Hibernate 를 거치지 않으므로 중복 키 예외가 나도 트랜잭션이 rollback-only 로 바뀌지 않는다.
+ * id 는 upsert 가 돌려준 값을 쓴다. MariaDB 의 REPEATABLE READ 에서는 다른 트랜잭션이 먼저 커밋한 태그를
+ * 같은 트랜잭션에서 select 로 다시 읽으면 보이지 않을 수 있다.
+ */
+@RequiredArgsConstructor
+public class TagRepositoryExtensionImpl implements TagRepositoryExtension {
+
+    private static final String POSTGRESQL_UPSERT =
+            "insert into tag (id, title) values (nextval('tag_seq'), :title) " +
+            "on conflict (title) do update set title = excluded.title returning id";
+
+    /**
+     * 새로 넣으면 시퀀스 값이, 이미 있으면 있던 태그의 id 가 last_insert_id() 에 남는다.
+     */
+    private static final String MARIADB_UPSERT =
+            "insert into tag (id, title) values (last_insert_id(nextval(tag_seq)), ?) " +
+            "on duplicate key update id = last_insert_id(id)";
+
+    private static final String MARIADB_LAST_INSERT_ID = "select last_insert_id()";
+
+    private static final String INSERT_IF_NOT_EXISTS =
+            "insert into tag (id, title) select next value for tag_seq, :title from dual " +
+            "where not exists (select 1 from tag t where t.title = :title)";
+
+    private static final String SELECT_ID = "select id from tag where title = :title";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private volatile DatabaseDriver databaseDriver;
+
+    @Override
+    @Transactional
+    public Long insertIfAbsent(String title) {
+        switch (getDatabaseDriver()) {
+            case POSTGRESQL:
+                return jdbcTemplate.queryForObject(POSTGRESQL_UPSERT, Map.of("title", title), Long.class);
+            case MARIADB:
+            case MYSQL:
+                return jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Long>) connection -> {
+                    try (PreparedStatement upsert = connection.prepareStatement(MARIADB_UPSERT);
+                         Statement select = connection.createStatement()) {
+                        upsert.setString(1, title);
+                        upsert.executeUpdate();
+                        try (ResultSet resultSet = select.executeQuery(MARIADB_LAST_INSERT_ID)) {
+                            return resultSet.next() ? resultSet.getLong(1) : null;
+                        }
+                    }
+                });
+            default:
+                try {
+                    jdbcTemplate.update(INSERT_IF_NOT_EXISTS, Map.of("title", title));
+                } catch (DuplicateKeyException e) {
+                    // H2 에는 upsert 가 없으므로 동시에 들어온 insert 가 먼저 커밋되면 중복 키 예외를 무시한다.
+                }
+                return DataAccessUtils.singleResult(jdbcTemplate.queryForList(SELECT_ID, Map.of("title", title), Long.class));
+        }
+    }
+
+    private DatabaseDriver getDatabaseDriver() {
+        if (databaseDriver == null) {
+            databaseDriver = databaseDriver();
+        }
+        return databaseDriver;
+    }
+
+    private DatabaseDriver databaseDriver() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getJdbcTemplate().getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(productName);
+        } catch (MetaDataAccessException e) {
+            return DatabaseDriver.UNKNOWN;
+        }
+    }
+
+}
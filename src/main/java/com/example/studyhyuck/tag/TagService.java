@@ -4,20 +4,90 @@ import com.example.studyhyuck.domain.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class TagService {
 
+    /**
+     * 이 개수를 넘으면 더 담지 않는다. 자주 쓰는 태그는 그 전에 이미 들어와 있다.
+     */
+    static final int MAX_INTERNED_TAGS = 10_000;
+
     private final TagRepository tagRepository;
 
+    /**
+     * 한 번 확인한 태그 제목의 id. 태그는 지우지 않으므로 커밋된 태그만 담아 두고 DB 를 다시 조회하지 않는다.
+     */
+    private final Map<String, Long> tagIds = new ConcurrentHashMap<>();
+
+    /**
+     * 없으면 upsert 로 만들고 upsert 가 돌려준 id 를 쓴다. 같은 태그를 동시에 만들어도 unique 제약 위반 없이 같은 태그를 돌려준다.
+     * 돌려주는 태그는 id 만 가진 참조이므로 id 외의 값을 읽으면 그때 조회한다.
+     */
     public Tag findOrCreateNew(String tagTitle) {
-        Tag tag = tagRepository.findByTitle(tagTitle);
-        if (tag == null) {
-            tag = tagRepository.save(Tag.builder().title(tagTitle).build());
+        Long id = tagIds.get(tagTitle);
+        if (id == null) {
+            id = tagRepository.insertIfAbsent(tagTitle);
+            if (id == null) {
+                throw new IllegalStateException("태그 id 를 찾을 수 없습니다: " + tagTitle);
+            }
+            intern(tagTitle, id);
+        }
+        return tagRepository.getOne(id);
+    }
+
+    public List<Tag> findOrCreateAll(Collection<String> tagTitles) {
+        return tagTitles.stream().distinct().map(this::findOrCreateNew).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Tag> findAllByTitles(Collection<String> tagTitles) {
+        List<Tag> tags = new ArrayList<>();
+        List<String> notInterned = new ArrayList<>();
+        for (String title : tagTitles) {
+            Long id = tagIds.get(title);
+            if (id != null) {
+                tags.add(tagRepository.getOne(id));
+            } else {
+                notInterned.add(title);
+            }
+        }
+
+        if (!notInterned.isEmpty()) {
+            tags.addAll(tagRepository.findByTitleIn(notInterned));
+        }
+        return tags;
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 만든 태그도 사라지므로 커밋된 뒤에 담는다.
+     */
+    private void intern(String tagTitle, Long id) {
+        if (tagIds.size() >= MAX_INTERNED_TAGS) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tagIds.putIfAbsent(tagTitle, id);
+                }
+            });
+        } else {
+            tagIds.putIfAbsent(tagTitle, id);
         }
-        return tag;
     }
 
 }
@@ -3,6 +3,11 @@ package com.example.studyhyuck.zone;
 import com.example.studyhyuck.domain.Zone;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ZoneRepository extends JpaRepository<Zone, Long> {
     Zone findByCityAndProvince(String cityName, String provinceName);
+
+    List<Zone> findByCityIn(Collection<String> cityNames);
 }
@@ -11,7 +11,9 @@ import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,5 +36,20 @@ public class ZoneService {
         }
     }
 
+    /**
+     * "도시(한글 이름)/도" 형식의 이름 목록에 해당하는 지역을 도시 이름으로 한 번에 읽어서 찾는다. 없는 이름은 빠진다.
+     */
+    @Transactional(readOnly = true)
+    public List<Zone> findAllByNames(Collection<String> zoneNames) {
+        Set<String> names = zoneNames.stream().filter(name -> name.contains("(")).collect(Collectors.toSet());
+        if (names.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> cityNames = names.stream().map(name -> name.substring(0, name.indexOf("("))).collect(Collectors.toSet());
+        return zoneRepository.findByCityIn(cityNames).stream()
+                .filter(zone -> names.contains(zone.toString()))
+                .collect(Collectors.toList());
+    }
 
 }
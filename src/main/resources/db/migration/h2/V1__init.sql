@@ -0,0 +1,147 @@
+-- ddl-auto 로 만들어 쓰던 스키마를 그대로 옮긴 기준 버전. 이미 운영 중인 DB 는 이 버전으로 baseline 한다.
+
+create sequence hibernate_sequence start with 1 increment by 1;
+
+create table account (
+    id bigint not null,
+    email varchar(255) not null,
+    nickname varchar(255) not null,
+    password varchar(255),
+    email_verified boolean not null,
+    email_check_token varchar(255),
+    email_check_token_generate_at timestamp,
+    joined_at timestamp,
+    bio varchar(255),
+    url varchar(255),
+    occupation varchar(255),
+    location varchar(255),
+    profile_image clob,
+    study_created_by_email boolean not null,
+    study_created_by_web boolean not null,
+    study_enrollment_result_by_email boolean not null,
+    study_enrollment_result_by_web boolean not null,
+    study_updated_by_email boolean not null,
+    study_updated_by_web boolean not null,
+    primary key (id),
+    constraint uk_account_email unique (email),
+    constraint uk_account_nickname unique (nickname)
+);
+
+create table tag (
+    id bigint not null,
+    title varchar(255) not null,
+    primary key (id),
+    constraint uk_tag_title unique (title)
+);
+
+create table zone (
+    id bigint not null,
+    city varchar(255) not null,
+    local_name_of_city varchar(255) not null,
+    province varchar(255),
+    primary key (id)
+);
+
+create table account_tags (
+    account_id bigint not null,
+    tags_id bigint not null,
+    primary key (account_id, tags_id),
+    constraint fk_account_tags_account foreign key (account_id) references account (id),
+    constraint fk_account_tags_tag foreign key (tags_id) references tag (id)
+);
+
+create table account_zones (
+    account_id bigint not null,
+    zones_id bigint not null,
+    primary key (account_id, zones_id),
+    constraint fk_account_zones_account foreign key (account_id) references account (id),
+    constraint fk_account_zones_zone foreign key (zones_id) references zone (id)
+);
+
+create table persistent_logins (
+    series varchar(64) not null,
+    username varchar(64) not null,
+    token varchar(64) not null,
+    last_used timestamp not null,
+    primary key (series)
+);
+
+create table study (
+    id bigint not null,
+    path varchar(255),
+    title varchar(255),
+    short_description varchar(255),
+    full_description clob,
+    image clob,
+    published_date_time timestamp,
+    closed_date_time timestamp,
+    recruiting_updated_date_time timestamp,
+    recruiting boolean not null,
+    published boolean not null,
+    closed boolean not null,
+    use_banner boolean not null,
+    member_count integer not null,
+    primary key (id),
+    constraint uk_study_path unique (path)
+);
+
+create table study_managers (
+    study_id bigint not null,
+    managers_id bigint not null,
+    primary key (study_id, managers_id),
+    constraint fk_study_managers_study foreign key (study_id) references study (id),
+    constraint fk_study_managers_account foreign key (managers_id) references account (id)
+);
+
+create table study_members (
+    study_id bigint not null,
+    members_id bigint not null,
+    primary key (study_id, members_id),
+    constraint fk_study_members_study foreign key (study_id) references study (id),
+    constraint fk_study_members_account foreign key (members_id) references account (id)
+);
+
+create table study_tags (
+    study_id bigint not null,
+    tags_id bigint not null,
+    primary key (study_id, tags_id),
+    constraint fk_study_tags_study foreign key (study_id) references study (id),
+    constraint fk_study_tags_tag foreign key (tags_id) references tag (id)
+);
+
+create table study_zones (
+    study_id bigint not null,
+    zones_id bigint not null,
+    primary key (study_id, zones_id),
+    constraint fk_study_zones_study foreign key (study_id) references study (id),
+    constraint fk_study_zones_zone foreign key (zones_id) references zone (id)
+);
+
+create table event (
+    id bigint not null,
+    study_id bigint,
+    created_by_id bigint,
+    title varchar(255) not null,
+    description clob,
+    create_date_time timestamp not null,
+    end_enrollment_date_time timestamp not null,
+    start_date_time timestamp not null,
+    end_date_time timestamp not null,
+    limit_of_enrollments integer,
+    event_type varchar(255),
+    primary key (id),
+    constraint fk_event_study foreign key (study_id) references study (id),
+    constraint fk_event_created_by foreign key (created_by_id) references account (id)
+);
+
+create table enrollment (
+    id bigint not null,
+    event_id bigint,
+    account_id bigint,
+    enrolled_at timestamp,
+    accepted boolean not null,
+    attended boolean not null,
+    primary key (id),
+    constraint fk_enrollment_event foreign key (event_id) references event (id),
+    constraint fk_enrollment_account foreign key (account_id) references account (id)
+);
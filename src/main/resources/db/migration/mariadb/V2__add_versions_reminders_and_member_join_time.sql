@@ -0,0 +1,28 @@
+-- V1 이후 엔티티에 더한 컬럼, 테이블, 인덱스. ddl-auto 로 만들어 V1 로 baseline 한 DB 에도 이 버전부터 적용된다.
+-- 낙관적 락 버전은 기존 행을 0 으로 채워서 다음 수정부터 버전을 비교할 수 있게 한다.
+-- 구성원 가입 시각은 V6 에서 채우고 not null 로 바꾼다.
+
+alter table study add column version bigint;
+update study set version = 0;
+alter table study add column events_updated_date_time datetime(6);
+
+alter table event add column version bigint;
+update event set version = 0;
+
+alter table study_members add column joined_date_time datetime(6);
+
+create table event_reminder (
+    id bigint not null,
+    event_id bigint not null,
+    reminder_type varchar(255) not null,
+    fire_date_time datetime(6) not null,
+    sent_date_time datetime(6),
+    primary key (id),
+    constraint fk_event_reminder_event foreign key (event_id) references event (id)
+) engine=InnoDB default charset=utf8mb4;
+
+create index idx_study_managers_account on study_managers (managers_id, study_id);
+create index idx_study_members_account on study_members (members_id, study_id);
+create index idx_study_members_joined on study_members (study_id, joined_date_time, members_id);
+create index idx_event_study_end on event (study_id, end_date_time);
+create index idx_event_reminder_fire on event_reminder (sent_date_time, fire_date_time);
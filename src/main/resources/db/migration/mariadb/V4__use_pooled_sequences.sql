@@ -0,0 +1,46 @@
+-- 엔티티마다 시퀀스를 따로 두고 50 씩 증가시킨다. Hibernate 는 pooled-lo 로 한 번 받은 값부터 50 개를 메모리에서 나눠 쓰므로
+-- insert 마다 시퀀스를 조회하지 않고 JDBC 배치로 묶어서 보낼 수 있다. 기존 데이터가 있으면 가장 큰 id 다음부터 시작한다.
+
+set @start = (select coalesce(max(id), 0) + 1 from account);
+set @ddl = concat('create sequence account_seq start with ', @start, ' increment by 50');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @start = (select coalesce(max(id), 0) + 1 from tag);
+set @ddl = concat('create sequence tag_seq start with ', @start, ' increment by 50');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @start = (select coalesce(max(id), 0) + 1 from zone);
+set @ddl = concat('create sequence zone_seq start with ', @start, ' increment by 50');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @start = (select coalesce(max(id), 0) + 1 from study);
+set @ddl = concat('create sequence study_seq start with ', @start, ' increment by 50');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @start = (select coalesce(max(id), 0) + 1 from event);
+set @ddl = concat('create sequence event_seq start with ', @start, ' increment by 50');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @start = (select coalesce(max(id), 0) + 1 from enrollment);
+set @ddl = concat('create sequence enrollment_seq start with ', @start, ' increment by 50');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @start = (select coalesce(max(id), 0) + 1 from event_reminder);
+set @ddl = concat('create sequence event_reminder_seq start with ', @start, ' increment by 50');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+drop sequence hibernate_sequence;
@@ -0,0 +1,10 @@
+-- 스터디의 모임 목록(시작 일시 순), 모임별 참가 신청 조회, 태그/지역으로 계정과 스터디를 찾는 역방향 조인,
+-- 자동 로그인 토큰을 사용자 이름으로 지우는 쿼리에 쓰는 인덱스.
+
+create index idx_event_study_start on event (study_id, start_date_time);
+create index idx_enrollment_event_account on enrollment (event_id, account_id);
+create index idx_account_tags_tag on account_tags (tags_id, account_id);
+create index idx_account_zones_zone on account_zones (zones_id, account_id);
+create index idx_study_tags_tag on study_tags (tags_id, study_id);
+create index idx_study_zones_zone on study_zones (zones_id, study_id);
+create index idx_persistent_logins_username on persistent_logins (username);
@@ -0,0 +1,25 @@
+-- 엔티티마다 시퀀스를 따로 두고 50 씩 증가시킨다. Hibernate 는 pooled-lo 로 한 번 받은 값부터 50 개를 메모리에서 나눠 쓰므로
+-- insert 마다 시퀀스를 조회하지 않고 JDBC 배치로 묶어서 보낼 수 있다. 기존 데이터가 있으면 가장 큰 id 다음부터 시작한다.
+
+create sequence account_seq start with 1 increment by 50;
+select setval('account_seq', (select coalesce(max(id), 0) + 1 from account), false);
+
+create sequence tag_seq start with 1 increment by 50;
+select setval('tag_seq', (select coalesce(max(id), 0) + 1 from tag), false);
+
+create sequence zone_seq start with 1 increment by 50;
+select setval('zone_seq', (select coalesce(max(id), 0) + 1 from zone), false);
+
+create sequence study_seq start with 1 increment by 50;
+select setval('study_seq', (select coalesce(max(id), 0) + 1 from study), false);
+
+create sequence event_seq start with 1 increment by 50;
+select setval('event_seq', (select coalesce(max(id), 0) + 1 from event), false);
+
+create sequence enrollment_seq start with 1 increment by 50;
+select setval('enrollment_seq', (select coalesce(max(id), 0) + 1 from enrollment), false);
+
+create sequence event_reminder_seq start with 1 increment by 50;
+select setval('event_reminder_seq', (select coalesce(max(id), 0) + 1 from event_reminder), false);
+
+drop sequence hibernate_sequence;
@@ -0,0 +1,4 @@
+-- 공개 스터디 검색을 공개 일시 순/구성원 수 순으로 읽고, 앞 페이지의 마지막 스터디 다음부터 이어서 찾는 인덱스.
+
+create index idx_study_published_date on study (published, published_date_time, id);
+create index idx_study_published_member_count on study (published, member_count, id);
@@ -0,0 +1,9 @@
+-- 가입 시각 없이 들어간 구성원 행은 스터디 공개 시각(없으면 지금)으로 채우고, 이후로는 가입 시각 없이 넣을 수 없게 한다.
+-- 구성원 목록은 (가입 시각, 계정 id) 를 커서로 페이지를 넘기므로 가입 시각이 비어 있으면 다음 페이지를 찾을 수 없다.
+
+update study_members sm
+set joined_date_time = coalesce(s.published_date_time, now())
+from study s
+where s.id = sm.study_id and sm.joined_date_time is null;
+
+alter table study_members alter column joined_date_time set not null;
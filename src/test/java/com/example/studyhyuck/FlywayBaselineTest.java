@@ -0,0 +1,69 @@
+package com.example.studyhyuck;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Flyway 도입 전에 ddl-auto 로 만들어 쓰던 DB 를 V1 로 baseline 하고 나머지 버전을 적용한다.
+ * 컨텍스트가 뜨면 ddl-auto=validate 까지 통과한 것이다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + FlywayBaselineTest.URL,
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1"
+})
+class FlywayBaselineTest {
+
+    static final String URL = "jdbc:h2:mem:baselined;DB_CLOSE_DELAY=-1";
+
+    @Autowired Flyway flyway;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createPreSeriesSchema() {
+        JdbcTemplate jdbc = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/h2/V1__init.sql")).execute(jdbc.getDataSource());
+
+        jdbc.update("insert into account (id, email, nickname, email_verified, study_created_by_email, study_created_by_web, "
+                + "study_enrollment_result_by_email, study_enrollment_result_by_web, study_updated_by_email, study_updated_by_web) "
+                + "values (1, 'legacy@email.com', 'legacy', true, false, true, false, true, false, true)");
+        jdbc.update("insert into study (id, path, title, published_date_time, recruiting, published, closed, use_banner, member_count) "
+                + "values (1, 'legacy-study', 'legacy study', timestamp '2021-03-01 10:00:00', false, true, false, false, 1)");
+        jdbc.update("insert into study_members (study_id, members_id) values (1, 1)");
+        jdbc.update("insert into event (id, study_id, created_by_id, title, create_date_time, end_enrollment_date_time, "
+                + "start_date_time, end_date_time, event_type) values (1, 1, 1, 'legacy event', current_timestamp, "
+                + "current_timestamp, current_timestamp, current_timestamp, 'FCFS')");
+    }
+
+    @DisplayName("ddl-auto 로 만든 DB - V1 baseline 후 V2 부터 적용")
+    @Test
+    void migrate_baselined_pre_series_schema() {
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .collect(Collectors.toList());
+        assertEquals(List.of("1", "2", "3", "4", "5", "6"), applied);
+        assertEquals("<< Flyway Baseline >>", flyway.info().applied()[0].getDescription());
+
+        assertEquals(0L, jdbcTemplate.queryForObject("select version from study where id = 1", Long.class));
+        assertEquals(0L, jdbcTemplate.queryForObject("select version from event where id = 1", Long.class));
+        assertEquals(LocalDateTime.of(2021, 3, 1, 10, 0), jdbcTemplate.queryForObject(
+                "select joined_date_time from study_members where study_id = 1 and members_id = 1", LocalDateTime.class));
+    }
+}
@@ -14,6 +14,8 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Base64;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.then;
@@ -36,6 +38,12 @@ class AccountControllerTest {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private AccountNameFilter accountNameFilter;
+
+    @Autowired
+    private AccountFactory accountFactory;
+
     @MockBean
     EmailService emailService;
 
@@ -143,4 +151,108 @@ class AccountControllerTest {
                 .andExpect(authenticated().withUsername("lhg1304"))
         ;
     }
-}
\ No newline at end of file
+
+    @DisplayName("가입 폼 닉네임 사용 가능 여부 - 가입하자마자 사용중, 쓴 적 없는 값은 DB 에 묻지 않고 사용 가능, 이메일은 답하지 않음")
+    @Test
+    public void signUpAvailability() throws Exception {
+        this.mockMvc
+                .perform(
+                        post("/sign-up")
+                                .param("nickname", "hyuck9")
+                                .param("email", "lhg1304@naver.com")
+                                .param("password", "12345678")
+                                .with(csrf())
+                )
+                .andExpect(status().is3xxRedirection());
+
+        this.mockMvc
+                .perform(
+                        get("/sign-up/availability")
+                                .param("nickname", "hyuck9")
+                                .param("email", "lhg1304@naver.com")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nickname").value(false))
+                .andExpect(jsonPath("$.email").doesNotExist());
+
+        assertFalse(accountNameFilter.mightContainNickname("hyuck10"));
+        this.mockMvc
+                .perform(
+                        get("/sign-up/availability")
+                                .param("nickname", "hyuck10")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nickname").value(true))
+                .andExpect(jsonPath("$.email").doesNotExist());
+    }
+
+    @DisplayName("회원 가입 처리 - 가입하자마자 같은 이메일은 대소문자가 달라도 필터를 거쳐 거절")
+    @Test
+    public void signUpSubmit_with_taken_email() throws Exception {
+        assertFalse(accountNameFilter.mightContainEmail("taken-email@naver.com"));
+        this.mockMvc
+                .perform(
+                        post("/sign-up")
+                                .param("nickname", "hyuck20")
+                                .param("email", "taken-email@naver.com")
+                                .param("password", "12345678")
+                                .with(csrf())
+                )
+                .andExpect(status().is3xxRedirection());
+
+        assertTrue(accountNameFilter.mightContainEmail("TAKEN-EMAIL@naver.com"));
+        this.mockMvc
+                .perform(
+                        post("/sign-up")
+                                .param("nickname", "hyuck21")
+                                .param("email", "taken-email@naver.com")
+                                .param("password", "12345678")
+                                .with(csrf())
+                )
+                .andExpect(status().isOk())
+                .andExpect(view().name("account/sign-up"))
+                .andExpect(model().attributeHasFieldErrors("signUpForm", "email"));
+    }
+
+    @DisplayName("프로필 이미지 - 허용한 이미지 형식은 그 형식으로 내려줌")
+    @Test
+    public void profileImage() throws Exception {
+        saveProfileImage("image-png", "data:image/png;base64,iVBORw0KGgo=");
+
+        this.mockMvc
+                .perform(
+                        get("/profile/image-png/image")
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(Base64.getDecoder().decode("iVBORw0KGgo=")));
+    }
+
+    @DisplayName("프로필 이미지 - HTML, SVG 처럼 스크립트가 들어갈 수 있는 형식은 404")
+    @Test
+    public void profileImage_not_allowed_media_type() throws Exception {
+        saveProfileImage("image-html", "data:text/html;base64,"
+                + Base64.getEncoder().encodeToString("<script>alert(1)</script>".getBytes()));
+        saveProfileImage("image-svg", "data:image/svg+xml;base64,"
+                + Base64.getEncoder().encodeToString("<svg onload=\"alert(1)\"/>".getBytes()));
+
+        this.mockMvc.perform(get("/profile/image-html/image")).andExpect(status().isNotFound());
+        this.mockMvc.perform(get("/profile/image-svg/image")).andExpect(status().isNotFound());
+    }
+
+    @DisplayName("프로필 이미지 - 형식이나 Base64 가 깨진 값은 500 대신 404")
+    @Test
+    public void profileImage_corrupt_data_url() throws Exception {
+        saveProfileImage("image-bad-type", "data:image/;base64,iVBORw0KGgo=");
+        saveProfileImage("image-bad-base64", "data:image/png;base64,@@not-base64@@");
+
+        this.mockMvc.perform(get("/profile/image-bad-type/image")).andExpect(status().isNotFound());
+        this.mockMvc.perform(get("/profile/image-bad-base64/image")).andExpect(status().isNotFound());
+    }
+
+    private void saveProfileImage(String nickname, String profileImage) {
+        Account account = accountFactory.createAccount(nickname);
+        account.setProfileImage(profileImage);
+        accountRepository.save(account);
+    }
+}
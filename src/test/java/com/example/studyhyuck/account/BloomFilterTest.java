@@ -0,0 +1,57 @@
+package com.example.studyhyuck.account;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    static final int EXPECTED = 100_000;
+
+    @DisplayName("BloomFilter - 넣은 값은 모두 있을 수도 있음으로 답함")
+    @Test
+    void no_false_negatives() {
+        BloomFilter filter = BloomFilter.create(EXPECTED, AccountNameFilter.FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED; i++) {
+            filter.put("user" + i + "@email.com");
+        }
+
+        for (int i = 0; i < EXPECTED; i++) {
+            assertTrue(filter.mightContain("user" + i + "@email.com"), "user" + i);
+        }
+    }
+
+    @DisplayName("BloomFilter - 예상한 만큼 넣었을 때 오탐 비율이 정한 값 근처")
+    @Test
+    void false_positive_rate_at_expected_size() {
+        BloomFilter filter = BloomFilter.create(EXPECTED, AccountNameFilter.FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED; i++) {
+            filter.put("user" + i + "@email.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < EXPECTED; i++) {
+            if (filter.mightContain("other" + i + "@email.com")) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / EXPECTED;
+        assertTrue(rate < AccountNameFilter.FALSE_POSITIVE_RATE * 1.5, "false positive rate " + rate);
+        assertTrue(rate > AccountNameFilter.FALSE_POSITIVE_RATE / 2, "false positive rate " + rate);
+    }
+
+    @DisplayName("BloomFilter - 예상한 수를 넘겨 넣으면 다시 만들 때가 됨")
+    @Test
+    void saturated_after_expected_insertions() {
+        BloomFilter filter = BloomFilter.create(1_000, AccountNameFilter.FALSE_POSITIVE_RATE);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("hyuck" + i);
+        }
+        assertFalse(filter.isSaturated());
+
+        filter.put("hyuck1000");
+        assertTrue(filter.isSaturated());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.studyhyuck.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 테스트에서만 등록된다. 요청을 처리하는 동안 @Transactional 메소드 밖(컨트롤러, 뷰 렌더링)에서 지연 로딩이 일어나면
+ * {@link LazyInitializationException} 을 던진다. 테스트 트랜잭션이 영속성 컨텍스트를 열어 두어서 가려지는,
+ * open-in-view 를 끈 운영 환경에서만 나는 지연 로딩 실패를 테스트에서도 드러낸다.
+ */
+@Aspect
+@Component
+public class LazyLoadGuard extends OncePerRequestFilter {
+
+    private static final ThreadLocal<Boolean> handlingRequest = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<Integer> transactionalDepth = ThreadLocal.withInitial(() -> 0);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public LazyLoadGuard(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.prependListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) event ->
+                check(event.getCollection().getRole()));
+        registry.prependListeners(EventType.LOAD, (LoadEventListener) (event, loadType) -> {
+            if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+                check(event.getEntityClassName());
+            }
+        });
+    }
+
+    @Around("@within(org.springframework.transaction.annotation.Transactional) " +
+            "|| @annotation(org.springframework.transaction.annotation.Transactional)")
+    public Object markTransactional(ProceedingJoinPoint joinPoint) throws Throwable {
+        transactionalDepth.set(transactionalDepth.get() + 1);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            transactionalDepth.set(transactionalDepth.get() - 1);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        handlingRequest.set(true);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            handlingRequest.remove();
+        }
+    }
+
+    private static void check(String role) {
+        if (handlingRequest.get() && transactionalDepth.get() == 0) {
+            throw new LazyInitializationException(role + " 를 서비스 트랜잭션 밖에서 지연 로딩했습니다. " +
+                    "서비스에서 페치 조인이나 엔티티 그래프로 미리 읽어서 넘기세요.");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.studyhyuck.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.web.server.LocalManagementPort;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 관리 포트는 MockMvc 로 부를 수 없으므로 실제 서버를 띄워서 localhost 의 관리 포트로 Prometheus 엔드포인트를 읽는다.
+ * 테스트에서는 메트릭을 내보내지 않는 것이 기본이므로 {@link AutoConfigureMetrics} 로 켠다.
+ */
+@AutoConfigureMetrics
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+class MetricsTest {
+
+    @Autowired TestRestTemplate restTemplate;
+    @LocalManagementPort int managementPort;
+
+    @DisplayName("관리 포트에서 로그인 없이 서비스, 뷰, 캐시, 커넥션 풀, SQL 메트릭을 Prometheus 형식으로 내보내기")
+    @Test
+    void prometheus() {
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/search/study?keyword=spring", String.class).getStatusCode());
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://127.0.0.1:" + managementPort + "/actuator/prometheus", String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String metrics = response.getBody();
+        assertTrue(metrics.contains("service_method_seconds_bucket{class=\"StudyService\",exception=\"none\",method=\"searchStudies\""));
+        assertTrue(metrics.contains("view_render_seconds_count{exception=\"none\",view=\"search\",}"));
+        assertTrue(metrics.contains("cache_gets_total{cache=\"studyFeed\",result=\"miss\",}"));
+        assertTrue(metrics.contains("hikaricp_connections_active"));
+        assertTrue(metrics.contains("sql_statements_count{handler=\"MainController.searchStudy\",}"));
+        assertEquals(9, bucketCount(metrics, "sql_statements_bucket{handler=\"MainController.searchStudy\""));
+        assertEquals(7, bucketCount(metrics, "sql_entities_loaded_bucket{handler=\"MainController.searchStudy\""));
+        assertEquals(10, bucketCount(metrics, "sql_jdbc_time_seconds_bucket{handler=\"MainController.searchStudy\""));
+    }
+
+    private long bucketCount(String metrics, String prefix) {
+        return metrics.lines().filter(line -> line.startsWith(prefix)).count();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.studyhyuck.config;
+
+import com.example.studyhyuck.account.AccountRepository;
+import com.example.studyhyuck.account.AccountService;
+import com.example.studyhyuck.account.WithAccount;
+import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.domain.Event;
+import com.example.studyhyuck.domain.Study;
+import com.example.studyhyuck.domain.Tag;
+import com.example.studyhyuck.event.EventRepository;
+import com.example.studyhyuck.event.EventService;
+import com.example.studyhyuck.event.EventType;
+import com.example.studyhyuck.study.StudyRepository;
+import com.example.studyhyuck.study.StudyService;
+import com.example.studyhyuck.tag.TagRepository;
+import com.example.studyhyuck.zone.ZoneRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * 테스트 트랜잭션 없이 요청을 보내서 open-in-view 를 끈 운영 환경과 같게 확인한다.
+ * 화면에서 지연 로딩이 일어나면 {@link LazyLoadGuard} 가 실패시키고, 준영속 엔티티를 고친 내용은 DB 에 남지 않는다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OpenInViewTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AccountRepository accountRepository;
+    @Autowired AccountService accountService;
+    @Autowired StudyService studyService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired EventService eventService;
+    @Autowired EventRepository eventRepository;
+    @Autowired TagRepository tagRepository;
+    @Autowired ZoneRepository zoneRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void afterEach() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Study study = studyRepository.findByPath("osiv-study");
+        if (study != null) {
+            eventRepository.findAll().stream()
+                    .filter(event -> event.getStudy().getId().equals(study.getId()))
+                    .forEach(eventService::deleteEvent);
+            transactionTemplate.execute(status -> {
+                studyRepository.deleteById(study.getId());
+                return null;
+            });
+        }
+        accountRepository.deleteById(accountRepository.findByNickname("osiv-user").getId());
+        Tag tag = tagRepository.findByTitle("osiv-tag");
+        if (tag != null) {
+            tagRepository.delete(tag);
+        }
+    }
+
+    @WithAccount("osiv-user")
+    @DisplayName("open-in-view 없이 - 설정 화면과 모임 화면은 서비스가 읽어 둔 것만 쓰고, 준영속 스터디와 모임을 고친 내용도 커밋")
+    @Test
+    void pages_and_updates_without_open_in_view() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Account account = accountRepository.findByNickname("osiv-user");
+        Tag tag = tagRepository.save(Tag.builder().title("osiv-tag").build());
+        Study study = transactionTemplate.execute(status -> {
+            Study newStudy = new Study();
+            newStudy.setPath("osiv-study");
+            newStudy.setTitle("OSIV 스터디");
+            return studyService.createNewStudy(newStudy, account);
+        });
+        studyService.updateTags(study, List.of(tag), List.of());
+        studyService.updateZones(study, List.of(zoneRepository.findAll().get(0)), List.of());
+        accountService.updateTags(account, List.of(tag), List.of());
+
+        String settings = "/study/osiv-study/settings";
+        for (String page : List.of("/description", "/banner", "/tags", "/zones", "/study")) {
+            mockMvc.perform(get(settings + page)).andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/settings/tags")).andExpect(status().isOk());
+        mockMvc.perform(get("/settings/zones")).andExpect(status().isOk());
+        mockMvc.perform(get("/study/osiv-study/new-event")).andExpect(status().isOk());
+
+        mockMvc.perform(post(settings + "/study/path").param("newPath", "x").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("study/settings/study"));
+        mockMvc.perform(post(settings + "/study/publish").with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        assertTrue(studyRepository.findByPath("osiv-study").isPublished());
+
+        Event event = new Event();
+        event.setTitle("OSIV 모임");
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(10);
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(2));
+        event.setEndDateTime(LocalDateTime.now().plusDays(3));
+        Event newEvent = eventService.createEvent(event, study, account);
+        String eventUrl = "/study/osiv-study/events/" + newEvent.getId();
+        mockMvc.perform(get(eventUrl)).andExpect(status().isOk());
+        mockMvc.perform(get(eventUrl + "/edit")).andExpect(status().isOk());
+
+        mockMvc.perform(post(eventUrl + "/edit")
+                .param("title", "바뀐 모임")
+                .param("description", "설명")
+                .param("eventType", "FCFS")
+                .param("limitOfEnrollments", "10")
+                .param("version", String.valueOf(newEvent.getVersion()))
+                .param("endEnrollmentDateTime", newEvent.getEndEnrollmentDateTime().toString())
+                .param("startDateTime", newEvent.getStartDateTime().toString())
+                .param("endDateTime", newEvent.getEndDateTime().toString())
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        assertEquals("바뀐 모임", eventRepository.findById(newEvent.getId()).orElseThrow().getTitle());
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.studyhyuck.config;
+
+import com.example.studyhyuck.domain.Tag;
+import com.example.studyhyuck.tag.TagRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * replica 세 개 중 replica-0 은 primary 와 같은 내장 DB 를 보는 지연 없는 replica,
+ * replica-1 은 복제 지연이 60 초, replica-2 는 접속할 수 없는 replica 다.
+ * replica 커넥션은 열릴 때 세션 변수 @ROUTE 에 풀 이름을 넣으므로 쿼리가 실제로 어디서 실행됐는지 읽을 수 있다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas[0].url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;INIT=SET @ROUTE='replica-0'",
+        "app.datasource.replicas[0].username=sa",
+        "app.datasource.replicas[0].lag-query=select 0",
+        "app.datasource.replicas[1].url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas[1].username=sa",
+        "app.datasource.replicas[1].lag-query=select 60",
+        "app.datasource.replicas[2].url=jdbc:h2:tcp://localhost:1/routing-down",
+        "app.datasource.replicas[2].connection-timeout=250ms",
+})
+class ReplicaRoutingDataSourceTest {
+
+    @Autowired ReplicaRoutingDataSource routingDataSource;
+    @Autowired TagRepository tagRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    static final String ROUTE_QUERY = "select @ROUTE";
+
+    @AfterEach
+    void afterEach() {
+        RequestContextHolder.resetRequestAttributes();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @DisplayName("읽기 전용 트랜잭션의 쿼리는 replica 커넥션에서, 쓰기 트랜잭션과 readFromPrimary 뒤의 쿼리는 primary 커넥션에서 실행")
+    @Test
+    void statements_run_on_routed_connection() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routingDataSource);
+
+        assertEquals("replica-0", readOnly.execute(status -> {
+            tagRepository.count();
+            return jdbcTemplate.queryForObject(ROUTE_QUERY, String.class);
+        }));
+        assertNull(readWrite.execute(status -> jdbcTemplate.queryForObject(ROUTE_QUERY, String.class)));
+        assertNull(readOnly.execute(status -> {
+            ReplicaRoutingDataSource.readFromPrimary();
+            tagRepository.count();
+            return jdbcTemplate.queryForObject(ROUTE_QUERY, String.class);
+        }));
+        assertEquals("replica-0", readOnly.execute(status -> jdbcTemplate.queryForObject(ROUTE_QUERY, String.class)));
+    }
+
+    @DisplayName("복제 지연이 max-lag 를 넘으면 primary 에서 읽고, 따라잡으면 다시 replica 에서 읽음")
+    @Test
+    void fall_back_to_primary_while_replica_lags() throws SQLException {
+        String url = "jdbc:h2:mem:routing-lag;DB_CLOSE_DELAY=-1";
+        HikariDataSource primary = pool(ReplicaRoutingDataSource.PRIMARY, url);
+        new JdbcTemplate(primary).execute("create table replica_lag (seconds int); insert into replica_lag values (0)");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary,
+                List.of(new ReplicaRoutingDataSource.Replica(pool("replica-0", url + ";INIT=SET @ROUTE='replica-0'"),
+                        "select seconds from replica_lag")),
+                Duration.ofSeconds(5), new ReadYourWrites(Duration.ofSeconds(5)));
+
+        try {
+            assertEquals("replica-0", readOnlyRoute(routing));
+
+            new JdbcTemplate(primary).update("update replica_lag set seconds = 60");
+            routing.checkReplicas();
+            assertNull(readOnlyRoute(routing));
+
+            new JdbcTemplate(primary).update("update replica_lag set seconds = 0");
+            routing.checkReplicas();
+            assertEquals("replica-0", readOnlyRoute(routing));
+        } finally {
+            new JdbcTemplate(primary).execute("drop table replica_lag");
+            routing.destroy();
+        }
+    }
+
+    @DisplayName("replica 에서 커넥션을 얻지 못하면 그 쿼리부터 primary 에서 실행")
+    @Test
+    void fall_back_to_primary_when_replica_connection_fails() throws SQLException {
+        String url = "jdbc:h2:mem:routing-down;DB_CLOSE_DELAY=-1";
+        HikariDataSource primary = pool(ReplicaRoutingDataSource.PRIMARY, url);
+        HikariDataSource replica = pool("replica-0", url + ";INIT=SET @ROUTE='replica-0'");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary,
+                List.of(new ReplicaRoutingDataSource.Replica(replica, null)),
+                Duration.ofSeconds(5), new ReadYourWrites(Duration.ofSeconds(5)));
+
+        try {
+            assertEquals("replica-0", readOnlyRoute(routing));
+
+            replica.close();
+            assertNull(readOnlyRoute(routing));
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        } finally {
+            routing.destroy();
+        }
+    }
+
+    private String readOnlyRoute(ReplicaRoutingDataSource routing) throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = routing.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(ROUTE_QUERY)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private HikariDataSource pool(String name, String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 쓸 수 있는 replica 로, 쓰기 트랜잭션과 방금 쓴 세션의 읽기는 primary 로")
+    @Test
+    void route_by_transaction_and_session() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        readOnly.execute(status -> {
+            assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+            assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+            return tagRepository.count();
+        });
+
+        Tag tag = readWrite.execute(status -> {
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+            return tagRepository.save(Tag.builder().title("routing-tag").build());
+        });
+        try {
+            readOnly.execute(status -> {
+                assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+                return null;
+            });
+
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            readOnly.execute(status -> {
+                assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+                return null;
+            });
+        } finally {
+            tagRepository.deleteById(tag.getId());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.studyhyuck.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RetryOnConflictAspectTest {
+
+    @AfterEach
+    void afterEach() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @DisplayName("충돌 재시도 - 충돌이 멈추면 그 시도의 결과를 돌려준다")
+    @Test
+    void retry_until_no_conflict() {
+        ConflictingService target = new ConflictingService(2);
+
+        assertEquals("done", proxy(target).update());
+        assertEquals(3, target.calls);
+    }
+
+    @DisplayName("충돌 재시도 - maxAttempts 번 모두 충돌하면 마지막 예외를 던진다")
+    @Test
+    void give_up_after_max_attempts() {
+        ConflictingService target = new ConflictingService(Integer.MAX_VALUE);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> proxy(target).update());
+        assertEquals(3, target.calls);
+    }
+
+    @DisplayName("충돌 재시도 - 바깥 트랜잭션 안에서는 다시 시도하지 않는다")
+    @Test
+    void no_retry_inside_transaction() {
+        ConflictingService target = new ConflictingService(1);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> proxy(target).update());
+        assertEquals(1, target.calls);
+    }
+
+    @DisplayName("충돌 재시도 - 다른 예외는 다시 시도하지 않는다")
+    @Test
+    void no_retry_on_other_exception() {
+        ConflictingService target = new ConflictingService(0);
+
+        assertThrows(IllegalStateException.class, () -> proxy(target).fail());
+        assertEquals(1, target.calls);
+    }
+
+    private ConflictingService proxy(ConflictingService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new RetryOnConflictAspect());
+        return factory.getProxy();
+    }
+
+    static class ConflictingService {
+
+        private final int conflicts;
+        int calls;
+
+        ConflictingService(int conflicts) {
+            this.conflicts = conflicts;
+        }
+
+        @RetryOnConflict(maxAttempts = 3, backoffMillis = 0)
+        public String update() {
+            if (++calls <= conflicts) {
+                throw new OptimisticLockingFailureException("conflict " + calls);
+            }
+            return "done";
+        }
+
+        @RetryOnConflict(maxAttempts = 3, backoffMillis = 0)
+        public String fail() {
+            calls++;
+            throw new IllegalStateException();
+        }
+    }
+}
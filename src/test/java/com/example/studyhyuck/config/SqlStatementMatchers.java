@@ -0,0 +1,41 @@
+package com.example.studyhyuck.config;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SqlStatisticsInterceptor} 가 요청 속성에 남긴 {@link SqlStatistics} 로 컨트롤러 메소드가 보낸 SQL 을 확인한다.
+ * <pre>
+ * mockMvc.perform(get("/study/test-path"))
+ *         .andExpect(statementsAtMost(4))
+ *         .andExpect(noRepeatedStatements(3));
+ * </pre>
+ * 테스트 트랜잭션 안에서는 이미 영속성 컨텍스트에 있는 엔티티를 다시 읽지 않으므로 운영에서보다 적게 셀 수 있다.
+ */
+public class SqlStatementMatchers {
+
+    public static ResultMatcher statementsAtMost(int max) {
+        return result -> {
+            SqlStatistics statistics = statistics(result.getRequest().getAttribute(SqlStatisticsInterceptor.ATTRIBUTE));
+            assertTrue(statistics.getStatements() <= max,
+                    () -> "SQL " + statistics.getStatements() + " 개를 보냄. 최대 " + max + " 개");
+        };
+    }
+
+    public static ResultMatcher noRepeatedStatements(int times) {
+        return result -> {
+            Map<String, Integer> repeated = statistics(result.getRequest().getAttribute(SqlStatisticsInterceptor.ATTRIBUTE))
+                    .getRepeatedStatements(times);
+            assertTrue(repeated.isEmpty(), () -> "같은 SQL 을 " + times + " 번 이상 보냄(N+1): " + repeated);
+        };
+    }
+
+    private static SqlStatistics statistics(Object attribute) {
+        assertNotNull(attribute, "컨트롤러 메소드를 거친 요청이 아닙니다.");
+        return (SqlStatistics) attribute;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.studyhyuck.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class AttendanceBufferTest {
+
+    EnrollmentRepository enrollmentRepository = mock(EnrollmentRepository.class);
+    AttendanceBuffer attendanceBuffer = new AttendanceBuffer(enrollmentRepository);
+
+    @DisplayName("체크인 반영 - 같은 참가 신청은 한 번만, BATCH_SIZE 단위로 나눠서 반영")
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_in_batches() {
+        int count = AttendanceBuffer.BATCH_SIZE + 10;
+        LongStream.rangeClosed(1, count).forEach(attendanceBuffer::record);
+        attendanceBuffer.record(1L);
+
+        attendanceBuffer.flush();
+
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(enrollmentRepository, times(2)).markAttended(captor.capture());
+        List<Collection<Long>> batches = captor.getAllValues();
+        assertEquals(AttendanceBuffer.BATCH_SIZE, batches.get(0).size());
+        assertEquals(10, batches.get(1).size());
+
+        Set<Long> written = new HashSet<>();
+        batches.forEach(written::addAll);
+        assertEquals(count, written.size());
+        assertFalse(attendanceBuffer.isPending(1L));
+    }
+
+    @DisplayName("체크인 반영 - 쓰기에 실패한 배치는 다시 대기열에 넣어 다음 주기에 반영")
+    @Test
+    void flush_requeues_failed_batch() {
+        attendanceBuffer.record(1L);
+        attendanceBuffer.record(2L);
+        when(enrollmentRepository.markAttended(anyCollection())).thenThrow(new IllegalStateException("db down"));
+
+        attendanceBuffer.flush();
+
+        assertTrue(attendanceBuffer.isPending(1L));
+        assertTrue(attendanceBuffer.isPending(2L));
+
+        List<Collection<Long>> written = new ArrayList<>();
+        reset(enrollmentRepository);
+        when(enrollmentRepository.markAttended(anyCollection())).thenAnswer(invocation -> {
+            written.add(new ArrayList<>(invocation.getArgument(0)));
+            return 2;
+        });
+
+        attendanceBuffer.flush();
+
+        assertEquals(1, written.size());
+        assertEquals(Set.of(1L, 2L), new HashSet<>(written.get(0)));
+        assertFalse(attendanceBuffer.isPending(1L));
+    }
+
+    @DisplayName("체크인 반영 - 대기 중인 체크인이 없으면 쿼리를 보내지 않음")
+    @Test
+    void flush_nothing() {
+        attendanceBuffer.flush();
+
+        verifyNoInteractions(enrollmentRepository);
+    }
+}
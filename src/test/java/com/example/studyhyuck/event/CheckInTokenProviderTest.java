@@ -0,0 +1,69 @@
+package com.example.studyhyuck.event;
+
+import com.example.studyhyuck.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CheckInTokenProviderTest {
+
+    CheckInTokenProvider checkInTokenProvider;
+
+    @BeforeEach
+    void beforeEach() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setCheckInSecret("test-secret");
+        checkInTokenProvider = new CheckInTokenProvider(appProperties);
+    }
+
+    @DisplayName("체크인 토큰 - 발급한 모임에 대해서는 참가 신청 id 반환")
+    @Test
+    void verify_valid_token() {
+        String token = checkInTokenProvider.issue(1L, 2L, LocalDateTime.now().plusHours(1));
+
+        assertEquals(1L, checkInTokenProvider.verify(token, 2L));
+    }
+
+    @DisplayName("체크인 토큰 - 다른 모임에 대해서는 거부")
+    @Test
+    void verify_token_for_other_event() {
+        String token = checkInTokenProvider.issue(1L, 2L, LocalDateTime.now().plusHours(1));
+
+        assertNull(checkInTokenProvider.verify(token, 3L));
+    }
+
+    @DisplayName("체크인 토큰 - 참가 신청 id 나 만료 시각을 바꾸면 서명이 맞지 않아 거부")
+    @Test
+    void verify_tampered_token() {
+        String token = checkInTokenProvider.issue(1L, 2L, LocalDateTime.now().minusHours(1));
+        String[] parts = token.split("\\.");
+
+        assertNull(checkInTokenProvider.verify("9." + parts[1] + "." + parts[2] + "." + parts[3], 2L));
+        assertNull(checkInTokenProvider.verify(parts[0] + "." + parts[1] + "." + Long.MAX_VALUE + "." + parts[3], 2L));
+        assertNull(checkInTokenProvider.verify(parts[0] + "." + parts[1] + "." + parts[2], 2L));
+        assertNull(checkInTokenProvider.verify(null, 2L));
+    }
+
+    @DisplayName("체크인 토큰 - 만료 시각이 지나면 거부")
+    @Test
+    void verify_expired_token() {
+        String token = checkInTokenProvider.issue(1L, 2L, LocalDateTime.now().minusSeconds(1));
+
+        assertNull(checkInTokenProvider.verify(token, 2L));
+    }
+
+    @DisplayName("체크인 토큰 - 다른 키로 서명한 토큰은 거부")
+    @Test
+    void verify_token_signed_with_other_secret() {
+        AppProperties otherProperties = new AppProperties();
+        otherProperties.setCheckInSecret("other-secret");
+        String token = new CheckInTokenProvider(otherProperties).issue(1L, 2L, LocalDateTime.now().plusHours(1));
+
+        assertNull(checkInTokenProvider.verify(token, 2L));
+    }
+}
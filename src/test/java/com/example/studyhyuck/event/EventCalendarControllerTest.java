@@ -0,0 +1,123 @@
+package com.example.studyhyuck.event;
+
+import com.example.studyhyuck.account.AccountFactory;
+import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.domain.Event;
+import com.example.studyhyuck.domain.Study;
+import com.example.studyhyuck.study.StudyService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+class EventCalendarControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AccountFactory accountFactory;
+    @Autowired StudyService studyService;
+    @Autowired EventService eventService;
+
+    @DisplayName("스터디 캘린더 - 공개한 스터디의 모임을 iCalendar 로 응답")
+    @Test
+    void studyCalendar() throws Exception {
+        Account manager = accountFactory.createAccount("manager");
+        Study study = createStudy("test-study", manager, true);
+        createEvent(study, manager, "첫 모임");
+
+        mockMvc.perform(get("/study/test-study/events.ics"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EventCalendarController.TEXT_CALENDAR))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(content().string(containsString("SUMMARY:첫 모임")));
+    }
+
+    @DisplayName("스터디 캘린더 - 마지막으로 모임을 바꾼 시각 이후로 바뀐 게 없으면 304")
+    @Test
+    void studyCalendar_not_modified() throws Exception {
+        Account manager = accountFactory.createAccount("manager");
+        Study study = createStudy("test-study", manager, true);
+        createEvent(study, manager, "첫 모임");
+
+        String lastModified = mockMvc.perform(get("/study/test-study/events.ics"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get("/study/test-study/events.ics").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @DisplayName("스터디 캘린더 - 없거나 공개하지 않은 스터디는 404")
+    @Test
+    void studyCalendar_not_found() throws Exception {
+        Account manager = accountFactory.createAccount("manager");
+        createStudy("draft-study", manager, false);
+
+        mockMvc.perform(get("/study/no-such-study/events.ics"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/study/draft-study/events.ics"))
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("계정 캘린더 - 바뀐 게 없으면 304, 스터디에 가입하면 ETag 가 바뀌어 새 목록으로 응답")
+    @Test
+    void accountCalendar_revalidates_after_join() throws Exception {
+        Account manager = accountFactory.createAccount("manager");
+        Study study = createStudy("test-study", manager, true);
+        createEvent(study, manager, "첫 모임");
+        Account member = accountFactory.createAccount("member");
+
+        String eTag = mockMvc.perform(get("/account/member/calendar.ics"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("SUMMARY:첫 모임"))))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/account/member/calendar.ics").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        studyService.addMember(study, member);
+
+        String newETag = mockMvc.perform(get("/account/member/calendar.ics").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("SUMMARY:첫 모임")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+    }
+
+    private Study createStudy(String path, Account manager, boolean publish) {
+        Study study = new Study();
+        study.setPath(path);
+        study.setTitle("테스트 스터디");
+        study = studyService.createNewStudy(study, manager);
+        if (publish) {
+            studyService.publish(study);
+        }
+        return study;
+    }
+
+    private void createEvent(Study study, Account account, String title) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(10);
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(2));
+        event.setEndDateTime(LocalDateTime.now().plusDays(3));
+        eventService.createEvent(event, study, account);
+    }
+}
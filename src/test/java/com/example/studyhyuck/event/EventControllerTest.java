@@ -0,0 +1,242 @@
+package com.example.studyhyuck.event;
+
+import com.example.studyhyuck.account.AccountFactory;
+import com.example.studyhyuck.account.AccountRepository;
+import com.example.studyhyuck.account.WithAccount;
+import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.domain.Enrollment;
+import com.example.studyhyuck.domain.Event;
+import com.example.studyhyuck.domain.Study;
+import com.example.studyhyuck.study.StudyService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Transactional
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // 체크인 반영은 테스트에서 직접 flush 해서 확인
+        "app.check-in-flush-interval=3600000"
+})
+@AutoConfigureMockMvc
+class EventControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AccountRepository accountRepository;
+    @Autowired AccountFactory accountFactory;
+    @Autowired StudyService studyService;
+    @Autowired EventService eventService;
+    @Autowired EnrollmentRepository enrollmentRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired CheckInTokenProvider checkInTokenProvider;
+    @Autowired AttendanceBuffer attendanceBuffer;
+
+    @WithAccount("hyuck9")
+    @DisplayName("모임 상세 조회 - 참가 신청 수와 상관없이 정해진 쿼리만 실행")
+    @Test
+    public void viewEvent_with_fixed_number_of_queries() throws Exception {
+        Account hyuck9 = accountRepository.findByNickname("hyuck9");
+        Study study = new Study();
+        study.setPath("test-study");
+        study.setTitle("테스트 스터디");
+        study = studyService.createNewStudy(study, hyuck9);
+
+        Event event = new Event();
+        event.setTitle("테스트 모임");
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(10);
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(2));
+        event.setEndDateTime(LocalDateTime.now().plusDays(3));
+        event = eventService.createEvent(event, study, hyuck9);
+
+        for (int i = 0; i < 5; i++) {
+            Enrollment enrollment = new Enrollment();
+            enrollment.setEvent(event);
+            enrollment.setAccount(accountFactory.createAccount("member" + i));
+            enrollment.setEnrolledAt(LocalDateTime.now());
+            enrollment.setAccepted(true);
+            enrollmentRepository.save(enrollment);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        this.mockMvc
+                .perform(
+                        get("/study/" + study.getPath() + "/events/" + event.getId())
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(view().name("event/view"))
+                .andExpect(model().attributeExists("event", "study"))
+        ;
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @WithAccount("hyuck9")
+    @DisplayName("체크인 - 관리하는 스터디 모임의 유효한 토큰이면 다음 flush 때 출석으로 반영")
+    @Test
+    public void checkIn() throws Exception {
+        Account hyuck9 = accountRepository.findByNickname("hyuck9");
+        Study study = createStudy("test-study", hyuck9);
+        Event event = createEvent(study, hyuck9);
+        Enrollment enrollment = createAcceptedEnrollment(event, accountFactory.createAccount("member"));
+
+        this.mockMvc
+                .perform(
+                        post("/study/" + study.getPath() + "/events/" + event.getId() + "/check-in")
+                                .param("token", checkInTokenProvider.issue(enrollment))
+                                .with(csrf())
+                )
+                .andExpect(status().isOk())
+        ;
+
+        assertTrue(attendanceBuffer.isPending(enrollment.getId()));
+        attendanceBuffer.flush();
+        entityManager.clear();
+        assertTrue(enrollmentRepository.findById(enrollment.getId()).orElseThrow().isAttended());
+    }
+
+    @WithAccount("hyuck9")
+    @DisplayName("체크인 - 다른 스터디의 모임이면 관리자라도 404")
+    @Test
+    public void checkIn_event_of_other_study() throws Exception {
+        Account hyuck9 = accountRepository.findByNickname("hyuck9");
+        Study myStudy = createStudy("my-study", hyuck9);
+
+        Account other = accountFactory.createAccount("other");
+        Study otherStudy = createStudy("other-study", other);
+        Event otherEvent = createEvent(otherStudy, other);
+        Enrollment enrollment = createAcceptedEnrollment(otherEvent, accountFactory.createAccount("member"));
+
+        this.mockMvc
+                .perform(
+                        post("/study/" + myStudy.getPath() + "/events/" + otherEvent.getId() + "/check-in")
+                                .param("token", checkInTokenProvider.issue(enrollment))
+                                .with(csrf())
+                )
+                .andExpect(status().isNotFound())
+        ;
+
+        assertFalse(attendanceBuffer.isPending(enrollment.getId()));
+    }
+
+    @WithAccount("hyuck9")
+    @DisplayName("체크인 - 모임이 끝나 만료된 토큰은 거부")
+    @Test
+    public void checkIn_with_expired_token() throws Exception {
+        Account hyuck9 = accountRepository.findByNickname("hyuck9");
+        Study study = createStudy("test-study", hyuck9);
+        Event event = createEvent(study, hyuck9);
+        Enrollment enrollment = createAcceptedEnrollment(event, accountFactory.createAccount("member"));
+
+        this.mockMvc
+                .perform(
+                        post("/study/" + study.getPath() + "/events/" + event.getId() + "/check-in")
+                                .param("token", checkInTokenProvider.issue(enrollment.getId(), event.getId(),
+                                        LocalDateTime.now().minusMinutes(1)))
+                                .with(csrf())
+                )
+                .andExpect(status().isBadRequest())
+        ;
+
+        assertFalse(attendanceBuffer.isPending(enrollment.getId()));
+    }
+
+    @WithAccount("hyuck9")
+    @DisplayName("모임 목록 - 지난 모임은 페이지 크기만큼 보여주고 마지막 모임을 커서로 다음 페이지 조회")
+    @Test
+    @SuppressWarnings("unchecked")
+    public void viewStudyEvents_pages_past_events() throws Exception {
+        Account hyuck9 = accountRepository.findByNickname("hyuck9");
+        Study study = createStudy("test-study", hyuck9);
+        LocalDateTime endDateTime = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i <= EventController.PAST_EVENTS_PAGE_SIZE; i++) {
+            Event event = new Event();
+            event.setStudy(study);
+            event.setTitle("지난 모임 " + i);
+            event.setEventType(EventType.FCFS);
+            event.setLimitOfEnrollments(10);
+            event.setCreateDateTime(endDateTime.minusDays(10));
+            event.setEndEnrollmentDateTime(endDateTime.minusDays(2));
+            event.setStartDateTime(endDateTime.minusHours(2));
+            event.setEndDateTime(endDateTime);
+            eventRepository.save(event);
+        }
+
+        Map<String, Object> firstPage = this.mockMvc
+                .perform(get("/study/" + study.getPath() + "/events"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("hasMoreOldEvents", true))
+                .andExpect(model().attribute("oldEventsCount", (long) EventController.PAST_EVENTS_PAGE_SIZE + 1))
+                .andReturn().getModelAndView().getModel();
+        List<EventSummaryView> oldEvents = (List<EventSummaryView>) firstPage.get("oldEvents");
+        assertEquals(EventController.PAST_EVENTS_PAGE_SIZE, oldEvents.size());
+        EventSummaryView last = oldEvents.get(oldEvents.size() - 1);
+
+        Map<String, Object> nextPage = this.mockMvc
+                .perform(get("/study/" + study.getPath() + "/events")
+                        .param("before", last.getEndDateTime().toString())
+                        .param("beforeId", last.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("hasMoreOldEvents", false))
+                .andReturn().getModelAndView().getModel();
+        List<EventSummaryView> nextEvents = (List<EventSummaryView>) nextPage.get("oldEvents");
+        assertEquals(1, nextEvents.size());
+        assertTrue(nextEvents.get(0).getId() < last.getId());
+    }
+
+    private Study createStudy(String path, Account manager) {
+        Study study = new Study();
+        study.setPath(path);
+        study.setTitle("테스트 스터디");
+        return studyService.createNewStudy(study, manager);
+    }
+
+    private Event createEvent(Study study, Account account) {
+        Event event = new Event();
+        event.setTitle("테스트 모임");
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(10);
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(2));
+        event.setEndDateTime(LocalDateTime.now().plusDays(3));
+        return eventService.createEvent(event, study, account);
+    }
+
+    private Enrollment createAcceptedEnrollment(Event event, Account account) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setEvent(event);
+        enrollment.setAccount(account);
+        enrollment.setEnrolledAt(LocalDateTime.now());
+        enrollment.setAccepted(true);
+        return enrollmentRepository.save(enrollment);
+    }
+}
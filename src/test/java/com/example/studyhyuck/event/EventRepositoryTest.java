@@ -0,0 +1,113 @@
+package com.example.studyhyuck.event;
+
+import com.example.studyhyuck.account.AccountFactory;
+import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.domain.Event;
+import com.example.studyhyuck.domain.Study;
+import com.example.studyhyuck.study.StudyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Transactional
+@SpringBootTest
+class EventRepositoryTest {
+
+    @Autowired EventRepository eventRepository;
+    @Autowired StudyService studyService;
+    @Autowired AccountFactory accountFactory;
+
+    LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    Study study;
+    Event oldest, tie1, tie2, tie3, latest;
+
+    @BeforeEach
+    void beforeEach() {
+        Account manager = accountFactory.createAccount("manager");
+        study = new Study();
+        study.setPath("test-study");
+        study.setTitle("테스트 스터디");
+        study = studyService.createNewStudy(study, manager);
+
+        oldest = saveEvent("oldest", now.minusDays(5));
+        tie1 = saveEvent("tie1", now.minusDays(3));
+        tie2 = saveEvent("tie2", now.minusDays(3));
+        tie3 = saveEvent("tie3", now.minusDays(3));
+        latest = saveEvent("latest", now.minusDays(1));
+        saveEvent("upcoming", now.plusDays(1));
+    }
+
+    @DisplayName("지난 모임 - 첫 페이지는 최근에 끝난 모임부터, 끝난 시각이 같으면 id 역순")
+    @Test
+    void findPastEvents_first_page() {
+        List<EventSummaryView> page = findPastEvents(now, Long.MAX_VALUE, 2);
+
+        assertEquals(List.of(latest.getId(), tie3.getId()), ids(page));
+    }
+
+    @DisplayName("지난 모임 - 다음 페이지는 앞 페이지 마지막 모임의 (끝난 시각, id) 뒤부터")
+    @Test
+    void findPastEvents_next_page() {
+        List<EventSummaryView> first = findPastEvents(now, Long.MAX_VALUE, 2);
+        EventSummaryView last = first.get(first.size() - 1);
+
+        List<EventSummaryView> next = findPastEvents(last.getEndDateTime(), last.getId(), 2);
+
+        assertEquals(List.of(tie2.getId(), tie1.getId()), ids(next));
+    }
+
+    @DisplayName("지난 모임 - 끝난 시각이 같은 모임이 페이지 경계에 걸려도 빠지거나 겹치지 않음")
+    @Test
+    void findPastEvents_tiebreak_on_id() {
+        List<EventSummaryView> first = findPastEvents(now, Long.MAX_VALUE, 3);
+        EventSummaryView last = first.get(first.size() - 1);
+        assertEquals(tie2.getId(), last.getId());
+
+        List<EventSummaryView> next = findPastEvents(last.getEndDateTime(), last.getId(), 3);
+
+        assertEquals(List.of(latest.getId(), tie3.getId(), tie2.getId()), ids(first));
+        assertEquals(List.of(tie1.getId(), oldest.getId()), ids(next));
+    }
+
+    @DisplayName("지난 모임 - 마지막 모임 다음 페이지는 비어 있음")
+    @Test
+    void findPastEvents_empty_last_page() {
+        List<EventSummaryView> page = findPastEvents(oldest.getEndDateTime(), oldest.getId(), 2);
+
+        assertTrue(page.isEmpty());
+        assertEquals(5, eventRepository.countByStudyIdAndEndDateTimeBefore(study.getId(), now));
+    }
+
+    private List<EventSummaryView> findPastEvents(LocalDateTime before, Long beforeId, int size) {
+        return eventRepository.findPastEvents(study.getId(), now, before, beforeId, PageRequest.of(0, size));
+    }
+
+    private List<Long> ids(List<EventSummaryView> events) {
+        return events.stream().map(EventSummaryView::getId).collect(Collectors.toList());
+    }
+
+    private Event saveEvent(String title, LocalDateTime endDateTime) {
+        Event event = new Event();
+        event.setStudy(study);
+        event.setTitle(title);
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(10);
+        event.setCreateDateTime(endDateTime.minusDays(10));
+        event.setEndEnrollmentDateTime(endDateTime.minusDays(2));
+        event.setStartDateTime(endDateTime.minusHours(2));
+        event.setEndDateTime(endDateTime);
+        return eventRepository.save(event);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.studyhyuck.event.reminder;
+
+import com.example.studyhyuck.config.AppProperties;
+import com.example.studyhyuck.domain.Event;
+import com.example.studyhyuck.domain.EventReminder;
+import com.example.studyhyuck.domain.Study;
+import com.example.studyhyuck.mail.EmailMessage;
+import com.example.studyhyuck.mail.EmailService;
+import com.example.studyhyuck.event.reminder.EventReminderRepository.Recipient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventReminderSchedulerTest {
+
+    EventReminderRepository eventReminderRepository = mock(EventReminderRepository.class);
+    EmailService emailService = mock(EmailService.class);
+    TemplateEngine templateEngine = new SpringTemplateEngine();
+
+    @AfterEach
+    void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("알림 등록 - 커밋한 뒤에만 휠에 올라감")
+    @Test
+    void schedule_registers_after_commit() {
+        EventReminderScheduler scheduler = scheduler(mock(EventReminderSender.class));
+        Event event = event(1L, LocalDateTime.now().plusHours(2));
+        givenSaveAllAssignsIds();
+
+        TransactionSynchronizationManager.initSynchronization();
+        scheduler.schedule(event);
+        assertFalse(scheduler.isScheduled(1L));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(scheduler.isScheduled(1L));
+    }
+
+    @DisplayName("알림 등록 - 롤백하면 휠에 남는 알림이 없음")
+    @Test
+    void schedule_rolled_back() {
+        EventReminderScheduler scheduler = scheduler(mock(EventReminderSender.class));
+        Event event = event(1L, LocalDateTime.now().plusHours(2));
+        givenSaveAllAssignsIds();
+
+        TransactionSynchronizationManager.initSynchronization();
+        scheduler.schedule(event);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(scheduler.isScheduled(1L));
+    }
+
+    @DisplayName("알림 취소 - 커밋한 뒤에 휠에서 내림")
+    @Test
+    void cancel_unregisters_after_commit() {
+        EventReminderScheduler scheduler = scheduler(mock(EventReminderSender.class));
+        Event event = event(1L, LocalDateTime.now().plusHours(2));
+        givenSaveAllAssignsIds();
+        scheduler.schedule(event);
+        assertTrue(scheduler.isScheduled(1L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        scheduler.cancel(event);
+        assertTrue(scheduler.isScheduled(1L));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertFalse(scheduler.isScheduled(1L));
+    }
+
+    @DisplayName("알림 발송 - 알림마다 보낸 것으로 표시해서 중간에 실패해도 이미 보낸 알림은 다시 보내지 않음")
+    @Test
+    void send_marks_each_reminder_as_sent() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setHost("http://localhost:8080");
+        EventReminderSender sender = new EventReminderSender(eventReminderRepository, emailService, templateEngine, appProperties);
+
+        Event first = event(1L, LocalDateTime.now().plusHours(1));
+        Event second = event(2L, LocalDateTime.now().plusHours(1));
+        EventReminder sent = reminder(10L, first);
+        EventReminder failed = reminder(20L, second);
+        when(eventReminderRepository.findUnsentWithEventByIdIn(anyCollection())).thenReturn(List.of(sent, failed));
+        when(eventReminderRepository.findAcceptedEnrollees(first)).thenReturn(List.of(recipient("first")));
+        when(eventReminderRepository.findAcceptedEnrollees(second)).thenReturn(List.of(recipient("second")));
+        doThrow(new IllegalStateException("smtp down")).when(emailService)
+                .sendEmail(argThat((EmailMessage message) -> message.getTo().equals("second@email.com")));
+
+        sender.send(List.of(10L, 20L));
+
+        verify(eventReminderRepository).markSent(eq(List.of(10L)), any(LocalDateTime.class));
+        verify(eventReminderRepository, never()).markSent(eq(List.of(20L)), any(LocalDateTime.class));
+    }
+
+    private EventReminderScheduler scheduler(EventReminderSender sender) {
+        return new EventReminderScheduler(eventReminderRepository, sender);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenSaveAllAssignsIds() {
+        AtomicLong ids = new AtomicLong();
+        when(eventReminderRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<EventReminder> reminders = (List<EventReminder>) invocation.getArgument(0);
+            reminders.forEach(r -> r.setId(ids.incrementAndGet()));
+            return reminders;
+        });
+    }
+
+    private Event event(Long id, LocalDateTime startDateTime) {
+        Study study = new Study();
+        study.setPath("test-study");
+        Event event = new Event();
+        event.setId(id);
+        event.setStudy(study);
+        event.setTitle("모임 " + id);
+        event.setStartDateTime(startDateTime);
+        event.setEndEnrollmentDateTime(startDateTime.minusMinutes(30));
+        event.setEndDateTime(startDateTime.plusHours(2));
+        return event;
+    }
+
+    private EventReminder reminder(Long id, Event event) {
+        return EventReminder.builder()
+                .id(id)
+                .event(event)
+                .reminderType(EventReminderType.START_IN_1_HOUR)
+                .fireDateTime(EventReminderType.START_IN_1_HOUR.fireDateTime(event))
+                .build();
+    }
+
+    private Recipient recipient(String nickname) {
+        return new Recipient() {
+            @Override
+            public String getEmail() {
+                return nickname + "@email.com";
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+        };
+    }
+}
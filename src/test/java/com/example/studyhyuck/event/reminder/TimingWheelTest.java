@@ -0,0 +1,104 @@
+package com.example.studyhyuck.event.reminder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    static final long START = 1_000_000L;
+
+    TimingWheel<String> wheel = new TimingWheel<>(10L, 8, START);
+    List<String> expired = new ArrayList<>();
+
+    @DisplayName("타이밍 휠 - 만료 시각이 된 칸의 작업만 넘겨줌")
+    @Test
+    void tick() {
+        assertTrue(wheel.add(new TimingWheel.Entry<>(START + 25, "a")));
+        assertTrue(wheel.add(new TimingWheel.Entry<>(START + 55, "b")));
+
+        advance(START + 19);
+        assertEquals(List.of(), expired);
+
+        advance(START + 20);
+        assertEquals(List.of("a"), expired);
+
+        advance(START + 49);
+        assertEquals(List.of("a"), expired);
+
+        advance(START + 50);
+        assertEquals(List.of("a", "b"), expired);
+    }
+
+    @DisplayName("타이밍 휠 - 한 바퀴를 넘는 작업은 위 휠에 있다가 아래 휠로 내려와서 제 시각에 만료")
+    @Test
+    void overflow() {
+        long interval = 10L * 8;
+        assertTrue(wheel.add(new TimingWheel.Entry<>(START + interval + 35, "next-lap")));
+        assertTrue(wheel.add(new TimingWheel.Entry<>(START + interval * 8 + 5, "far")));
+
+        advance(START + interval);
+        assertEquals(List.of(), expired);
+
+        advance(START + interval + 29);
+        assertEquals(List.of(), expired);
+
+        advance(START + interval + 30);
+        assertEquals(List.of("next-lap"), expired);
+
+        advance(START + interval * 8 - 1);
+        assertEquals(List.of("next-lap"), expired);
+
+        advance(START + interval * 8 + 10);
+        assertEquals(List.of("next-lap", "far"), expired);
+    }
+
+    @DisplayName("타이밍 휠 - 시간을 여러 칸 한 번에 진행해도 지난 작업을 모두 넘겨줌")
+    @Test
+    void advance_over_many_buckets() {
+        for (int i = 1; i <= 20; i++) {
+            wheel.add(new TimingWheel.Entry<>(START + i * 10, "e" + i));
+        }
+
+        advance(START + 1_000);
+
+        assertEquals(20, expired.size());
+    }
+
+    @DisplayName("타이밍 휠 - 취소한 작업은 만료돼도 넘겨주지 않음")
+    @Test
+    void cancel() {
+        TimingWheel.Entry<String> cancelled = new TimingWheel.Entry<>(START + 25, "cancelled");
+        TimingWheel.Entry<String> overflowCancelled = new TimingWheel.Entry<>(START + 500, "overflow-cancelled");
+        wheel.add(cancelled);
+        wheel.add(overflowCancelled);
+        wheel.add(new TimingWheel.Entry<>(START + 25, "kept"));
+
+        cancelled.cancel();
+        overflowCancelled.cancel();
+        advance(START + 1_000);
+
+        assertEquals(List.of("kept"), expired);
+    }
+
+    @DisplayName("타이밍 휠 - 이미 만료된 작업은 등록하지 않고 false")
+    @Test
+    void add_expired() {
+        assertFalse(wheel.add(new TimingWheel.Entry<>(START + 5, "now")));
+        assertFalse(wheel.add(new TimingWheel.Entry<>(START - 100, "past")));
+
+        advance(START + 1_000);
+
+        assertEquals(List.of(), expired);
+    }
+
+    private void advance(long nowMillis) {
+        wheel.advance(nowMillis, entry -> expired.add(entry.getValue()));
+    }
+}
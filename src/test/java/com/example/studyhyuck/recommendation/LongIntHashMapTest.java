@@ -0,0 +1,67 @@
+package com.example.studyhyuck.recommendation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LongIntHashMapTest {
+
+    @DisplayName("LongIntHashMap - 채울 때마다 배열을 늘려도 모든 값이 남음")
+    @Test
+    void resize_keeps_every_entry() {
+        LongIntHashMap map = new LongIntHashMap();
+        for (long key = 1; key <= 10_000; key++) {
+            map.addTo(key, (int) key);
+        }
+
+        assertEquals(10_000, map.size());
+        for (long key = 1; key <= 10_000; key++) {
+            assertEquals((int) key, map.get(key));
+        }
+        assertEquals(0, map.get(10_001));
+    }
+
+    @DisplayName("LongIntHashMap - 0 이하가 된 항목을 지워도 같은 묶음에 이어진 항목을 찾을 수 있음")
+    @Test
+    void remove_shifts_following_entries_back() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // 키 범위를 칸 수보다 조금 크게 잡아서 충돌한 묶음이 생기고 가운데 항목이 자주 지워지게 한다.
+        for (int i = 0; i < 100_000; i++) {
+            long key = 1 + random.nextInt(64);
+            int delta = random.nextInt(5) - 2;
+            map.addTo(key, delta);
+            int value = expected.getOrDefault(key, 0) + delta;
+            if (value <= 0) {
+                expected.remove(key);
+            } else {
+                expected.put(key, value);
+            }
+
+            if (i % 1_000 == 0) {
+                assertSameEntries(expected, map);
+            }
+        }
+        assertSameEntries(expected, map);
+
+        expected.forEach((key, value) -> map.addTo(key, -value));
+        assertEquals(0, map.size());
+    }
+
+    private void assertSameEntries(Map<Long, Integer> expected, LongIntHashMap map) {
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 64; key++) {
+            assertEquals(expected.getOrDefault(key, 0), map.get(key), "key " + key);
+        }
+        Map<Long, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.studyhyuck.recommendation;
+
+import com.example.studyhyuck.account.AccountFactory;
+import com.example.studyhyuck.account.AccountRepository;
+import com.example.studyhyuck.account.AccountService;
+import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.domain.Study;
+import com.example.studyhyuck.domain.Tag;
+import com.example.studyhyuck.study.StudyRepository;
+import com.example.studyhyuck.study.StudyService;
+import com.example.studyhyuck.study.StudySummaryView;
+import com.example.studyhyuck.tag.TagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class RecommendationServiceTest {
+
+    @Autowired RecommendationService recommendationService;
+    @Autowired TagCooccurrenceIndex cooccurrenceIndex;
+    @Autowired AccountService accountService;
+    @Autowired AccountFactory accountFactory;
+    @Autowired AccountRepository accountRepository;
+    @Autowired StudyService studyService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired TagRepository tagRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @DisplayName("추천 - 두 번 이상 함께 달린 태그로 관심사를 넓혀서 태그와 스터디를 추천하고, 커밋된 태그 변경은 다시 세지 않아도 반영")
+    @Test
+    void recommend_by_cooccurrence() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<String, Tag> tags = List.of("rec-java", "rec-spring", "rec-jpa", "rec-python", "rec-django").stream()
+                .map(title -> tagRepository.save(Tag.builder().title(title).build()))
+                .collect(Collectors.toMap(Tag::getTitle, tag -> tag));
+        List<Account> accounts = new ArrayList<>();
+        List<Study> studies = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                accounts.add(createAccount("rec-backend" + i, tags.get("rec-java"), tags.get("rec-spring"), tags.get("rec-jpa")));
+            }
+            List<Account> pythonistas = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                pythonistas.add(createAccount("rec-pythonista" + i, tags.get("rec-python"), tags.get("rec-django")));
+            }
+            Account reader = createAccount("rec-reader", tags.get("rec-java"));
+            accounts.addAll(pythonistas);
+            accounts.add(reader);
+
+            Account manager = accounts.get(0);
+            studies.add(transactionTemplate.execute(status -> createStudy(manager, "rec-spring-study", tags.get("rec-spring"), true)));
+            studies.add(transactionTemplate.execute(status -> createStudy(manager, "rec-django-study", tags.get("rec-django"), true)));
+            studies.add(transactionTemplate.execute(status -> createStudy(manager, "rec-private-study", tags.get("rec-jpa"), false)));
+            studies.add(transactionTemplate.execute(status -> createStudy(reader, "rec-own-study", tags.get("rec-spring"), true)));
+            cooccurrenceIndex.rebuild();
+
+            assertEquals(List.of("rec-spring", "rec-jpa"), recommendationService.recommendTags(reader, 10));
+            assertEquals(List.of("rec-spring-study"), paths(recommendationService.recommendStudies(reader, 10)));
+
+            accountService.updateTags(pythonistas.get(0), List.of(tags.get("rec-java")), List.of());
+            assertEquals(List.of("rec-spring", "rec-jpa"), recommendationService.recommendTags(reader, 10));
+
+            accountService.updateTags(pythonistas.get(1), List.of(tags.get("rec-java")), List.of());
+            assertEquals(List.of("rec-spring", "rec-jpa", "rec-python", "rec-django"), recommendationService.recommendTags(reader, 10));
+            assertEquals(List.of("rec-spring-study", "rec-django-study"), paths(recommendationService.recommendStudies(reader, 10)));
+
+            transactionTemplate.execute(status -> {
+                studyService.close(studyRepository.findByPath("rec-spring-study"));
+                return null;
+            });
+            assertEquals(List.of("rec-django-study"), paths(recommendationService.recommendStudies(reader, 10)));
+        } finally {
+            transactionTemplate.execute(status -> {
+                studies.forEach(study -> studyRepository.deleteById(study.getId()));
+                return null;
+            });
+            accounts.forEach(account -> accountRepository.deleteById(account.getId()));
+            tagRepository.deleteAll(tags.values());
+            cooccurrenceIndex.rebuild();
+        }
+    }
+
+    private Account createAccount(String nickname, Tag... tags) {
+        Account account = accountFactory.createAccount(nickname);
+        accountService.updateTags(account, List.of(tags), List.of());
+        return account;
+    }
+
+    private Study createStudy(Account manager, String path, Tag tag, boolean published) {
+        Study newStudy = new Study();
+        newStudy.setPath(path);
+        newStudy.setTitle(path);
+        Study study = studyService.createNewStudy(newStudy, manager);
+        studyService.updateTags(study, List.of(tag), List.of());
+        if (published) {
+            studyService.publish(studyRepository.findByPath(path));
+        }
+        return study;
+    }
+
+    private List<String> paths(List<StudySummaryView> studies) {
+        return studies.stream().map(StudySummaryView::getPath).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.studyhyuck.recommendation;
+
+import com.example.studyhyuck.study.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 조인 테이블만 있는 내장 DB 로 다시 세고, 다시 세는 도중에 커밋된 변경은 DB 연결을 얻는 시점에 끼워 넣는다.
+ * rebuild 는 계정 태그, 스터디 태그, 스터디 지역 순으로 연결을 하나씩 얻는다.
+ * 첫 번째 연결을 얻기 전의 변경은 계정 태그 조회가 첫 행을 돌려주기 전에 커밋된 것과 같다.
+ */
+class TagCooccurrenceIndexTest {
+
+    EmbeddedDatabase database;
+    StudyRepository studyRepository;
+    HookedDataSource dataSource;
+    TagCooccurrenceIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table account_tags (account_id bigint, tags_id bigint)");
+        jdbcTemplate.execute("create table study (id bigint, published boolean, closed boolean)");
+        jdbcTemplate.execute("create table study_tags (study_id bigint, tags_id bigint)");
+        jdbcTemplate.execute("create table study_zones (study_id bigint, zones_id bigint)");
+        jdbcTemplate.execute("insert into account_tags values (1, 1), (1, 2), (2, 1), (2, 2)");
+        jdbcTemplate.execute("insert into study values (10, true, false)");
+        jdbcTemplate.execute("insert into study_tags values (10, 1)");
+
+        studyRepository = mock(StudyRepository.class);
+        dataSource = new HookedDataSource(database);
+        index = new TagCooccurrenceIndex(new JdbcTemplate(dataSource), studyRepository);
+    }
+
+    @AfterEach
+    void afterEach() {
+        database.shutdown();
+    }
+
+    @DisplayName("태그 쌍 - 두 번 이상 함께 달린 쌍부터 추천하고, 차이만 더한 쌍도 같은 기준으로 거름")
+    @Test
+    void min_support_applies_to_incremental_counts() {
+        index.rebuild();
+        assertEquals(Map.of(2L, 2.0 / 3), index.relatedTags(Set.of(1L), 10));
+
+        index.accountTagsChangedAfterCommit(List.of(), List.of(1L, 3L));
+        assertEquals(Map.of(2L, 2.0 / 4), index.relatedTags(Set.of(1L), 10));
+
+        index.accountTagsChangedAfterCommit(List.of(), List.of(1L, 3L));
+        assertEquals(Map.of(2L, 2.0 / 5, 3L, 2.0 / 5), index.relatedTags(Set.of(1L), 10));
+    }
+
+    @DisplayName("태그 쌍 - 다시 세는 동안 커밋된 계정 태그와 스터디 변경을 잃지 않음")
+    @Test
+    void rebuild_replays_changes_committed_while_counting() {
+        given(studyRepository.findOpenStudyTagIds(10L)).willReturn(Set.of(1L, 4L));
+        given(studyRepository.findOpenStudyZoneIds(10L)).willReturn(Set.of(7L));
+        dataSource.onConnection(2, () -> {
+            index.accountTagsChangedAfterCommit(List.of(), List.of(1L, 3L));
+            index.accountTagsChangedAfterCommit(List.of(), List.of(1L, 3L));
+        });
+        dataSource.onConnection(3, () -> index.studyChangedAfterCommit(10L));
+
+        index.rebuild();
+
+        assertEquals(Set.of(2L, 3L), index.relatedTags(Set.of(1L), 10).keySet());
+        assertEquals(List.of(10L), index.recommendStudies(Map.of(4L, 1.0), Set.of(7L), Set.of(), 10));
+    }
+
+    @DisplayName("태그 쌍 - 계정 태그를 훑기 전에 커밋된 변경은 조회 결과에만 세고 두 번 더하지 않음")
+    @Test
+    void rebuild_does_not_replay_changes_committed_before_counting() {
+        dataSource.onConnection(1, () -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            jdbcTemplate.execute("insert into account_tags values (3, 1), (3, 3)");
+            index.accountTagsChangedAfterCommit(List.of(), List.of(1L, 3L));
+            jdbcTemplate.execute("insert into account_tags values (4, 1), (4, 3)");
+            index.accountTagsChangedAfterCommit(List.of(), List.of(1L, 3L));
+        });
+
+        index.rebuild();
+
+        assertEquals(Map.of(2L, 2.0 / 5, 3L, 2.0 / 5), index.relatedTags(Set.of(1L), 10));
+    }
+
+    static class HookedDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger connections = new AtomicInteger();
+        private final Map<Integer, Runnable> hooks = new ConcurrentHashMap<>();
+
+        HookedDataSource(EmbeddedDatabase database) {
+            super(database);
+        }
+
+        void onConnection(int number, Runnable hook) {
+            hooks.put(number, hook);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Runnable hook = hooks.remove(connections.incrementAndGet());
+            if (hook != null) {
+                hook.run();
+            }
+            return super.getConnection();
+        }
+    }
+}
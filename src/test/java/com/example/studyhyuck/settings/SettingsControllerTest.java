@@ -8,7 +8,9 @@ import com.example.studyhyuck.domain.Account;
 import com.example.studyhyuck.domain.Tag;
 import com.example.studyhyuck.domain.Zone;
 import com.example.studyhyuck.settings.form.TagForm;
+import com.example.studyhyuck.settings.form.TagsForm;
 import com.example.studyhyuck.settings.form.ZoneForm;
+import com.example.studyhyuck.settings.form.ZonesForm;
 import com.example.studyhyuck.tag.TagRepository;
 import com.example.studyhyuck.zone.ZoneRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,6 +28,11 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.example.studyhyuck.config.SqlStatementMatchers.statementsAtMost;
 import static com.example.studyhyuck.settings.SettingsController.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -103,6 +110,25 @@ class SettingsControllerTest {
         assertEquals(bio, lhg1304.getBio());
     }
 
+    @WithAccount(value = "lhg1304")
+    @DisplayName("프로필 수정하기 - 허용하지 않은 형식의 프로필 이미지")
+    @Test
+    public void updateProfile_not_allowed_profile_image() throws Exception {
+        this.mockMvc
+                .perform(
+                        post(ROOT + SETTINGS + PROFILE)
+                                .param("bio", "소개")
+                                .param("profileImage", "data:text/html;base64,PHNjcmlwdD5hbGVydCgxKTwvc2NyaXB0Pg==")
+                                .with(csrf())
+                )
+                .andExpect(status().isOk())
+                .andExpect(view().name(SETTINGS + PROFILE))
+                .andExpect(model().attributeHasFieldErrors("profile", "profileImage"))
+        ;
+        Account lhg1304 = accountRepository.findByNickname("lhg1304");
+        assertNull(lhg1304.getProfileImage());
+    }
+
     @WithAccount(value = "lhg1304")
     @DisplayName("프로필 수정하기 - 입력값 에러")
     @Test
@@ -245,12 +271,14 @@ class SettingsControllerTest {
     @DisplayName("계정의 태그 수정 폼")
     @Test
     void updateTagsForm() throws Exception {
+        accountRepository.flush();
         mockMvc.perform(get(ROOT + SETTINGS + TAGS))
                 .andExpect(status().isOk())
                 .andExpect(view().name(SETTINGS + TAGS))
                 .andExpect(model().attributeExists("account"))
                 .andExpect(model().attributeExists("whitelist"))
-                .andExpect(model().attributeExists("tags"));
+                .andExpect(model().attributeExists("tags"))
+                .andExpect(statementsAtMost(2));
     }
 
     @WithAccount("lhg1304")
@@ -283,7 +311,7 @@ class SettingsControllerTest {
         Tag newTag = tagRepository.save(Tag.builder().title("newTag").build());
         accountService.addTag(lhg1304, newTag);
 
-        assertTrue(lhg1304.getTags().contains(newTag));
+        assertTrue(accountRepository.findByNickname("lhg1304").getTags().contains(newTag));
 
         TagForm tagForm = new TagForm();
         tagForm.setTagTitle("newTag");
@@ -297,7 +325,34 @@ class SettingsControllerTest {
                 )
                 .andExpect(status().isOk());
 
-        assertFalse(lhg1304.getTags().contains(newTag));
+        assertFalse(accountRepository.findByNickname("lhg1304").getTags().contains(newTag));
+    }
+
+    @WithAccount("lhg1304")
+    @DisplayName("계정의 태그 변경분을 한 번에 반영")
+    @Test
+    void changeTags() throws Exception {
+        Account lhg1304 = accountRepository.findByNickname("lhg1304");
+        Tag oldTag = tagRepository.save(Tag.builder().title("oldTag").build());
+        Tag keptTag = tagRepository.save(Tag.builder().title("keptTag").build());
+        accountService.updateTags(lhg1304, List.of(oldTag, keptTag), List.of());
+
+        TagsForm tagsForm = new TagsForm();
+        tagsForm.setAdd(List.of("newTag1", "newTag2", "keptTag"));
+        tagsForm.setRemove(List.of("oldTag"));
+
+        mockMvc
+                .perform(
+                        post(ROOT + SETTINGS + TAGS)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(tagsForm))
+                                .with(csrf())
+                )
+                .andExpect(status().isOk());
+
+        Set<String> titles = accountRepository.findByNickname("lhg1304").getTags().stream()
+                .map(Tag::getTitle).collect(Collectors.toSet());
+        assertEquals(Set.of("newTag1", "newTag2", "keptTag"), titles);
     }
 
     private final Zone testZone = Zone.builder().city("test").localNameOfCity("테스트시").province("테스트주").build();
@@ -306,11 +361,13 @@ class SettingsControllerTest {
     @DisplayName("계정의 지역 정보 수정 폼")
     @Test
     void updateZonesForm() throws Exception {
+        accountRepository.flush();
         mockMvc.perform(get(ROOT + SETTINGS + ZONES))
                 .andExpect(view().name(SETTINGS + ZONES))
                 .andExpect(model().attributeExists("account"))
                 .andExpect(model().attributeExists("whitelist"))
-                .andExpect(model().attributeExists("zones"));
+                .andExpect(model().attributeExists("zones"))
+                .andExpect(statementsAtMost(2));
     }
 
     @WithAccount("lhg1304")
@@ -354,6 +411,25 @@ class SettingsControllerTest {
                 )
                 .andExpect(status().isOk());
 
-        assertFalse(lhg1304.getZones().contains(zone));
+        assertFalse(accountRepository.findByNickname("lhg1304").getZones().contains(zone));
+    }
+
+    @WithAccount("lhg1304")
+    @DisplayName("계정의 지역 변경분 중 없는 지역이 있으면 반영하지 않음")
+    @Test
+    void changeZones_with_unknown_zone() throws Exception {
+        ZonesForm zonesForm = new ZonesForm();
+        zonesForm.setAdd(List.of(testZone.toString(), "unknown(없는시)/없는주"));
+
+        mockMvc
+                .perform(
+                        post(ROOT + SETTINGS + ZONES)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(zonesForm))
+                                .with(csrf())
+                )
+                .andExpect(status().isBadRequest());
+
+        assertTrue(accountRepository.findByNickname("lhg1304").getZones().isEmpty());
     }
 }
\ No newline at end of file
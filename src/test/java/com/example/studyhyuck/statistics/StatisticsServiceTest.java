@@ -0,0 +1,68 @@
+package com.example.studyhyuck.statistics;
+
+import com.example.studyhyuck.account.AccountFactory;
+import com.example.studyhyuck.account.AccountRepository;
+import com.example.studyhyuck.account.AccountService;
+import com.example.studyhyuck.domain.Account;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StatisticsServiceTest {
+
+    @Autowired StatisticsService statisticsService;
+    @Autowired AccountService accountService;
+    @Autowired AccountFactory accountFactory;
+    @Autowired AccountRepository accountRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @DisplayName("회원 수 - 이메일 인증을 마치면 테이블을 세지 않고 한 번만 올라가고, 다시 세어도 같은 값")
+    @Test
+    void completeSignUp_counts_account_once() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Account account = accountFactory.createAccount("statistics-user");
+        long before = statisticsService.getNumberOfAccounts();
+
+        try {
+            for (int i = 0; i < 2; i++) {
+                transactionTemplate.execute(status -> {
+                    Account found = accountRepository.findByNickname("statistics-user");
+                    found.setPassword("12345678");
+                    accountService.completeSignUp(found);
+                    return null;
+                });
+            }
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+            assertEquals(before + 1, statisticsService.getNumberOfAccounts());
+            assertEquals(0, statistics.getPrepareStatementCount());
+
+            // 다시 셀 때는 회원, 스터디, 모임 count 쿼리가 한 번씩 나가고 한 행씩 읽는 것이 같은 통계에 잡힌다.
+            statisticsService.refresh();
+            assertEquals(before + 1, statisticsService.getNumberOfAccounts());
+            assertEquals(3, statistics.getPrepareStatementCount());
+            assertEquals(3, statistics.getQueryExecutionCount());
+            assertEquals(3, Arrays.stream(statistics.getQueries())
+                    .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                    .sum());
+        } finally {
+            SecurityContextHolder.clearContext();
+            accountRepository.deleteById(account.getId());
+            statisticsService.refresh();
+        }
+    }
+}
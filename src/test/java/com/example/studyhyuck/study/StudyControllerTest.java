@@ -13,6 +13,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.example.studyhyuck.config.SqlStatementMatchers.noRepeatedStatements;
+import static com.example.studyhyuck.config.SqlStatementMatchers.statementsAtMost;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -94,11 +96,14 @@ class StudyControllerTest {
 
         Account lhg1304 = accountRepository.findByNickname("lhg1304");
         studyService.createNewStudy(study, lhg1304);
+        studyRepository.flush();
 
         mockMvc.perform(get("/study/test-path"))
                 .andExpect(view().name("study/view"))
                 .andExpect(model().attributeExists("account"))
-                .andExpect(model().attributeExists("study"));
+                .andExpect(model().attributeExists("study"))
+                .andExpect(statementsAtMost(5))
+                .andExpect(noRepeatedStatements(3));
     }
 
 
@@ -114,7 +119,8 @@ class StudyControllerTest {
                 .andExpect(redirectedUrl("/study/" + study.getPath() + "/members"));
 
         Account lhg1304 = accountRepository.findByNickname("lhg1304");
-        assertTrue(study.getMembers().contains(lhg1304));
+        assertTrue(studyRepository.existsMember(study.getId(), lhg1304.getId()));
+        assertEquals(1, studyService.getStudyHeader(study.getPath()).getMemberCount());
     }
 
     @Test
@@ -130,7 +136,8 @@ class StudyControllerTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/study/" + study.getPath() + "/members"));
 
-        assertFalse(study.getMembers().contains(lhg1304));
+        assertFalse(studyRepository.existsMember(study.getId(), lhg1304.getId()));
+        assertEquals(0, studyService.getStudyHeader(study.getPath()).getMemberCount());
     }
 
 
@@ -0,0 +1,511 @@
+package com.example.studyhyuck.study;
+
+import com.example.studyhyuck.account.AccountFactory;
+import com.example.studyhyuck.account.AccountRepository;
+import com.example.studyhyuck.account.AccountService;
+import com.example.studyhyuck.domain.Account;
+import com.example.studyhyuck.domain.Study;
+import com.example.studyhyuck.domain.Tag;
+import com.example.studyhyuck.domain.Zone;
+import com.example.studyhyuck.study.form.StudySearchForm;
+import com.example.studyhyuck.study.search.StudySearchIndex;
+import com.example.studyhyuck.tag.TagRepository;
+import com.example.studyhyuck.zone.ZoneRepository;
+import com.sun.management.ThreadMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StudyServiceTest {
+
+    @Autowired StudyService studyService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired StudyMemberRepository studyMemberRepository;
+    @Autowired AccountFactory accountFactory;
+    @Autowired AccountRepository accountRepository;
+    @Autowired AccountService accountService;
+    @Autowired TagRepository tagRepository;
+    @Autowired ZoneRepository zoneRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired StudySearchIndex searchIndex;
+
+    @DisplayName("스터디 조회 - 컬렉션마다 별도 쿼리로 조회해서 비용이 구성원 수에 선형으로 증가")
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    public void getStudy_loads_each_collection_separately(int numberOfMembers) {
+        createStudy(numberOfMembers);
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        Study loaded = studyService.getStudy("test-study");
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(numberOfMembers, loaded.getMembers().size());
+        assertEquals(10, loaded.getTags().size());
+        assertEquals(5, loaded.getZones().size());
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertEquals(1 + 10 + 5 + 1 + numberOfMembers, statistics.getEntityLoadCount());
+        log.info("getStudy with {} members, 10 tags, 5 zones: {} statements, {} entities, {} us",
+                numberOfMembers, statistics.getPrepareStatementCount(), statistics.getEntityLoadCount(), elapsed / 1000);
+    }
+
+    @DisplayName("스터디 화면 조회 - 필요한 컬럼만 프로젝션으로 조회해서 구성원 수와 무관하게 엔티티를 읽지 않음")
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    public void getStudyHeader_reads_projections_only(int numberOfMembers) {
+        Account manager = createStudy(numberOfMembers);
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        StudyHeaderView header = studyService.getStudyHeader("test-study");
+        List<MemberView> members = studyService.getMembers(header, null, null, numberOfMembers);
+        List<MemberView> managers = studyService.getManagers(header);
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertEquals(numberOfMembers, header.getMemberCount());
+        assertEquals(numberOfMembers, members.size());
+        assertEquals(1, managers.size());
+        assertEquals(10, header.getTags().size());
+        assertEquals(5, header.getZones().size());
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        log.info("getStudyHeader with {} members, 10 tags, 5 zones: {} statements, {} entities, {} bytes allocated",
+                numberOfMembers, statistics.getPrepareStatementCount(), statistics.getEntityLoadCount(), allocated);
+
+        statistics.clear();
+        StudyMembership membership = studyRepository.findMembership(header.getId(), manager.getId());
+        assertTrue(membership.isManager());
+        assertFalse(membership.isMember());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @DisplayName("구성원 목록 - 가입 시각이 같은 구성원은 계정 id 순으로 이어서 읽어 빠지거나 반복되지 않음")
+    @Test
+    public void getMembers_pages_members_joined_at_same_time() {
+        Account manager = accountFactory.createAccount("manager");
+        Study study = new Study();
+        study.setPath("test-study");
+        study.setTitle("테스트 스터디");
+        study = studyService.createNewStudy(study, manager);
+
+        LocalDateTime joinedDateTime = LocalDateTime.now().withNano(0);
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Account member = accountFactory.createAccount("member" + i);
+            studyMemberRepository.insertIfAbsent(study.getId(), member.getId(), joinedDateTime);
+            memberIds.add(member.getId());
+        }
+        StudyHeaderView header = studyService.getStudyHeader("test-study");
+
+        List<Long> pagedIds = new ArrayList<>();
+        List<MemberView> page = studyService.getMembers(header, null, null, 2);
+        while (!page.isEmpty()) {
+            page.forEach(m -> pagedIds.add(m.getId()));
+            MemberView last = page.get(page.size() - 1);
+            assertEquals(joinedDateTime, last.getJoinedDateTime());
+            page = studyService.getMembers(header, last.getJoinedDateTime(), last.getId(), 2);
+        }
+
+        assertEquals(memberIds, pagedIds);
+    }
+
+    @DisplayName("계정과 스터디 대량 생성 - 시퀀스를 50 개 단위로 받고 insert 를 JDBC 배치로 묶어서 보냄")
+    @Test
+    public void bulk_create_accounts_and_studies_in_batches() {
+        int numberOfRows = 1000;
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        List<Account> accounts = accountRepository.saveAll(IntStream.range(0, numberOfRows)
+                .mapToObj(i -> Account.builder().nickname("bulk" + i).email("bulk" + i + "@email.com").build())
+                .collect(Collectors.toList()));
+        List<Study> studies = studyRepository.saveAll(IntStream.range(0, numberOfRows)
+                .mapToObj(i -> Study.builder().path("bulk-study" + i).title("대량 생성 스터디" + i).build())
+                .collect(Collectors.toList()));
+        entityManager.flush();
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(numberOfRows, accounts.stream().map(Account::getId).distinct().count());
+        assertEquals(numberOfRows, studies.stream().map(Study::getId).distinct().count());
+        // 테이블마다 시퀀스 조회 20 번 + 50 건씩 묶은 insert 배치 20 번
+        assertTrue(statistics.getPrepareStatementCount() <= 2 * 2 * numberOfRows / 50);
+        log.info("bulk create {} accounts and {} studies: {} statements, {} ms, {} rows/s",
+                numberOfRows, numberOfRows, statistics.getPrepareStatementCount(), elapsed / 1_000_000,
+                2L * numberOfRows * 1_000_000_000 / elapsed);
+    }
+
+    @DisplayName("스터디 검색 - 앞 페이지의 마지막 스터디 다음부터 읽어서 빠짐없이 정렬 순서대로 나오고, 뒤 페이지도 같은 쿼리 수")
+    @Test
+    public void searchStudies_with_keyset_pagination() {
+        int numberOfStudies = 45;
+        Tag jpaTag = tagRepository.save(Tag.builder().title("JPA").build());
+        LocalDateTime now = LocalDateTime.now();
+        studyRepository.saveAll(IntStream.range(0, numberOfStudies)
+                .mapToObj(i -> Study.builder().path("search-study" + i).title("검색 스터디" + i).tags(Set.of(jpaTag))
+                        .published(true).publishedDateTime(now.minusMinutes(i / 2)).memberCount(i % 7).build())
+                .collect(Collectors.toList()));
+        studyRepository.save(Study.builder().path("private-study").title("비공개 JPA 스터디").build());
+        entityManager.flush();
+        entityManager.clear();
+
+        for (String sort : List.of(StudySearchForm.SORT_BY_PUBLISHED_DATE_TIME, StudySearchForm.SORT_BY_MEMBER_COUNT)) {
+            StudySearchForm searchForm = new StudySearchForm();
+            searchForm.setKeyword("jpa");
+            searchForm.setSort(sort);
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            List<StudySummaryView> found = new ArrayList<>();
+            List<Long> statementsPerPage = new ArrayList<>();
+            List<StudySummaryView> page;
+            do {
+                statistics.clear();
+                page = studyService.searchStudies(searchForm, 20);
+                statementsPerPage.add(statistics.getPrepareStatementCount());
+                found.addAll(page);
+                if (!page.isEmpty()) {
+                    StudySummaryView last = page.get(page.size() - 1);
+                    searchForm.setAfterPublishedDateTime(last.getPublishedDateTime());
+                    searchForm.setAfterMemberCount(last.getMemberCount());
+                    searchForm.setAfterId(last.getId());
+                }
+            } while (page.size() == 20);
+
+            assertEquals(numberOfStudies, found.stream().map(StudySummaryView::getId).distinct().count());
+            assertTrue(found.stream().allMatch(study -> study.getTags().equals(List.of("JPA"))));
+            Comparator<StudySummaryView> order = StudySearchForm.SORT_BY_MEMBER_COUNT.equals(sort)
+                    ? Comparator.comparing(StudySummaryView::getMemberCount)
+                    : Comparator.comparing(StudySummaryView::getPublishedDateTime);
+            List<StudySummaryView> sorted = new ArrayList<>(found);
+            sorted.sort(order.thenComparing(StudySummaryView::getId).reversed());
+            assertEquals(sorted, found);
+            assertEquals(List.of(3L, 3L, 3L), statementsPerPage);
+            log.info("searchStudies by {}: {} studies in {} pages, statements per page {}",
+                    sort, found.size(), statementsPerPage.size(), statementsPerPage);
+        }
+    }
+
+    @DisplayName("스터디 정확도순 검색 - 본문까지 색인해서 제목에 검색어가 있는 스터디를 먼저 찾고, 커밋된 변경은 바로 검색됨")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void searchStudies_by_relevance() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Account manager = accountFactory.createAccount("relevance-manager");
+        List<Study> studies = transactionTemplate.execute(status -> List.of(
+                createPublishedStudy(manager, "relevance-title", "스프링부트 JPA 스터디", "<p>엔티티 매핑</p>"),
+                createPublishedStudy(manager, "relevance-body", "알고리즘 스터디", "<p>매주 <b>스프링</b> tests 도 함께 작성합니다</p>"),
+                createPublishedStudy(manager, "relevance-short", "스프링 입문", "<p>처음 시작하는 분들</p>")));
+        Study privateStudy = transactionTemplate.execute(status -> {
+            Study newStudy = new Study();
+            newStudy.setPath("relevance-private");
+            newStudy.setTitle("비공개 스프링 스터디");
+            return studyService.createNewStudy(newStudy, manager);
+        });
+
+        try {
+            StudySearchForm searchForm = new StudySearchForm();
+            searchForm.setKeyword("스프링");
+            searchForm.setSort(StudySearchForm.SORT_BY_RELEVANCE);
+            List<StudySummaryView> firstPage = studyService.searchStudies(searchForm, 2);
+            assertEquals(Set.of("relevance-title", "relevance-short"),
+                    firstPage.stream().map(StudySummaryView::getPath).collect(Collectors.toSet()));
+
+            StudySummaryView last = firstPage.get(1);
+            searchForm.setAfterScore(last.getScore());
+            searchForm.setAfterId(last.getId());
+            List<StudySummaryView> secondPage = studyService.searchStudies(searchForm, 2);
+            assertEquals(List.of("relevance-body"), secondPage.stream().map(StudySummaryView::getPath).collect(Collectors.toList()));
+            assertTrue(secondPage.get(0).getScore() < last.getScore());
+
+            StudySearchForm stemmed = new StudySearchForm();
+            stemmed.setKeyword("Testing");
+            stemmed.setSort(StudySearchForm.SORT_BY_RELEVANCE);
+            assertEquals(List.of("relevance-body"), studyService.searchStudies(stemmed, 10).stream()
+                    .map(StudySummaryView::getPath).collect(Collectors.toList()));
+
+            transactionTemplate.execute(status -> {
+                studyService.updateStudyTitle(studyRepository.findByPath("relevance-body"), "JPA 알고리즘 스터디");
+                return null;
+            });
+            StudySearchForm retitled = new StudySearchForm();
+            retitled.setKeyword("jpa 스터디");
+            retitled.setSort(StudySearchForm.SORT_BY_RELEVANCE);
+            assertEquals(Set.of("relevance-title", "relevance-body"), studyService.searchStudies(retitled, 10).stream()
+                    .map(StudySummaryView::getPath).collect(Collectors.toSet()));
+        } finally {
+            transactionTemplate.execute(status -> {
+                studies.forEach(study -> {
+                    studyRepository.deleteById(study.getId());
+                    searchIndex.reindexAfterCommit(study.getId());
+                });
+                studyRepository.deleteById(privateStudy.getId());
+                return null;
+            });
+            accountRepository.delete(manager);
+        }
+    }
+
+    private Study createPublishedStudy(Account manager, String path, String title, String fullDescription) {
+        Study newStudy = new Study();
+        newStudy.setPath(path);
+        newStudy.setTitle(title);
+        newStudy.setShortDescription(title);
+        newStudy.setFullDescription(fullDescription);
+        Study study = studyService.createNewStudy(newStudy, manager);
+        studyService.publish(study);
+        return study;
+    }
+
+    @DisplayName("홈 피드 - 관심 태그와 지역에 맞는 스터디를 계정마다 담아 두고, 공개/종료/관심사 변경이 바로 반영됨")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void getStudyFeed_follows_studies_and_interests() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Account manager = accountFactory.createAccount("feed-manager");
+        Account reader = accountFactory.createAccount("feed-reader");
+        Tag tag = tagRepository.save(Tag.builder().title("feed-tag").build());
+        Zone seoul = zoneRepository.save(Zone.builder().city("FeedSeoul").localNameOfCity("피드서울").province("none").build());
+        Zone busan = zoneRepository.save(Zone.builder().city("FeedBusan").localNameOfCity("피드부산").province("none").build());
+        accountService.updateTags(reader, List.of(tag), List.of());
+        accountService.updateZones(reader, List.of(seoul), List.of());
+        List<Study> studies = new ArrayList<>();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        try {
+            assertTrue(studyService.getStudyFeed(reader).isEmpty());
+
+            studies.add(transactionTemplate.execute(status -> createFeedStudy(manager, "feed-seoul", tag, seoul)));
+            statistics.clear();
+            assertEquals(List.of("feed-seoul"), feedPaths(reader));
+            assertEquals(3, statistics.getPrepareStatementCount());
+
+            studies.add(transactionTemplate.execute(status -> createFeedStudy(manager, "feed-busan", tag, busan)));
+            assertEquals(List.of("feed-seoul"), feedPaths(reader));
+
+            accountService.updateZones(reader, List.of(busan), List.of());
+            assertEquals(List.of("feed-busan", "feed-seoul"), feedPaths(reader));
+
+            transactionTemplate.execute(status -> {
+                studyService.close(studyRepository.findByPath("feed-seoul"));
+                return null;
+            });
+            assertEquals(List.of("feed-busan"), feedPaths(reader));
+        } finally {
+            transactionTemplate.execute(status -> {
+                studies.forEach(study -> {
+                    studyRepository.deleteById(study.getId());
+                    searchIndex.reindexAfterCommit(study.getId());
+                });
+                return null;
+            });
+            List.of(manager, reader).forEach(account -> accountRepository.deleteById(account.getId()));
+            tagRepository.delete(tag);
+            zoneRepository.deleteAll(List.of(seoul, busan));
+        }
+    }
+
+    private Study createFeedStudy(Account manager, String path, Tag tag, Zone zone) {
+        Study newStudy = new Study();
+        newStudy.setPath(path);
+        newStudy.setTitle(path);
+        Study study = studyService.createNewStudy(newStudy, manager);
+        studyService.updateTags(study, List.of(tag), List.of());
+        studyService.updateZones(study, List.of(zone), List.of());
+        study = studyRepository.findByPath(path);
+        studyService.publish(study);
+        return study;
+    }
+
+    private List<String> feedPaths(Account account) {
+        return studyService.getStudyFeed(account).stream().map(StudySummaryView::getPath).collect(Collectors.toList());
+    }
+
+    @DisplayName("스터디 태그 추가 - 여러 관리자가 동시에 추가해도 조인 테이블에 행만 넣으므로 충돌 없이 모두 반영")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void addTag_concurrently_keeps_every_tag() throws Exception {
+        int numberOfThreads = 4;
+        int tagsPerThread = 5;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Account manager = accountFactory.createAccount("contention-manager");
+        Study study = transactionTemplate.execute(status -> {
+            Study newStudy = new Study();
+            newStudy.setPath("contention-study");
+            newStudy.setTitle("태그 경합 스터디");
+            return studyService.createNewStudy(newStudy, manager);
+        });
+        List<Tag> tags = IntStream.range(0, numberOfThreads * tagsPerThread)
+                .mapToObj(i -> tagRepository.save(Tag.builder().title("contention-tag" + i).build()))
+                .collect(Collectors.toList());
+
+        try {
+            ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            Set<Long> addedTagIds = ConcurrentHashMap.newKeySet();
+            for (int t = 0; t < numberOfThreads; t++) {
+                List<Tag> tagsOfThread = tags.subList(t * tagsPerThread, (t + 1) * tagsPerThread);
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (Tag tag : tagsOfThread) {
+                        studyService.addTag(study, tag);
+                        addedTagIds.add(tag.getId());
+                    }
+                    return null;
+                }));
+            }
+            long startTime = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            long elapsed = System.nanoTime() - startTime;
+            executorService.shutdown();
+
+            Study loaded = transactionTemplate.execute(status -> {
+                Study found = studyRepository.findStudyWithTagsByPath("contention-study");
+                found.getTags().size();
+                return found;
+            });
+            Set<Long> allTagIds = tags.stream().map(Tag::getId).collect(Collectors.toSet());
+            assertEquals(allTagIds, addedTagIds);
+            assertEquals(addedTagIds, loaded.getTags().stream().map(Tag::getId).collect(Collectors.toSet()));
+            log.info("addTag {} threads x {} tags: {} added, {} us",
+                    numberOfThreads, tagsPerThread, loaded.getTags().size(), elapsed / 1000);
+        } finally {
+            transactionTemplate.execute(status -> {
+                studyRepository.deleteById(study.getId());
+                return null;
+            });
+            tagRepository.deleteAll(tags);
+            accountRepository.delete(manager);
+        }
+    }
+
+    @DisplayName("스터디 가입/탈퇴 - 동시에 여러 번 요청해도 구성원 수가 실제 구성원 수와 같음")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void addMember_and_removeMember_concurrently() throws Exception {
+        int numberOfAccounts = 30;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Account manager = accountFactory.createAccount("concurrent-manager");
+        Study study = transactionTemplate.execute(status -> {
+            Study newStudy = new Study();
+            newStudy.setPath("concurrent-study");
+            newStudy.setTitle("동시 가입 스터디");
+            return studyService.createNewStudy(newStudy, manager);
+        });
+        List<Account> accounts = IntStream.range(0, numberOfAccounts)
+                .mapToObj(i -> accountFactory.createAccount("concurrent" + i))
+                .collect(Collectors.toList());
+
+        try {
+            runConcurrently(accounts, account -> studyService.addMember(study, account));
+            assertEquals(numberOfAccounts, studyService.getStudyHeader("concurrent-study").getMemberCount());
+            assertEquals(numberOfAccounts, studyService.getMembers(studyService.getStudyHeader("concurrent-study"),
+                    null, null, numberOfAccounts * 2).size());
+
+            runConcurrently(accounts, account -> studyService.removeMember(study, account));
+            assertEquals(0, studyService.getStudyHeader("concurrent-study").getMemberCount());
+        } finally {
+            transactionTemplate.execute(status -> {
+                studyRepository.deleteById(study.getId());
+                return null;
+            });
+            accountRepository.deleteAll(accounts);
+            accountRepository.delete(manager);
+        }
+    }
+
+    /**
+     * 계정마다 같은 요청을 두 번씩(더블 클릭) 여러 스레드에서 한꺼번에 보낸다.
+     */
+    private void runConcurrently(List<Account> accounts, Consumer<Account> request) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Account account : accounts) {
+            for (int i = 0; i < 2; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    try {
+                        request.accept(account);
+                    } catch (DataIntegrityViolationException e) {
+                        // 같은 계정의 중복 요청은 기본 키 제약으로 막힌다.
+                    }
+                    return null;
+                }));
+            }
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+    }
+
+    private Account createStudy(int numberOfMembers) {
+        Account manager = accountFactory.createAccount("manager");
+        Study study = new Study();
+        study.setPath("test-study");
+        study.setTitle("테스트 스터디");
+        study = studyService.createNewStudy(study, manager);
+
+        for (int i = 0; i < 10; i++) {
+            study.getTags().add(tagRepository.save(Tag.builder().title("tag" + i).build()));
+        }
+        zoneRepository.findAll().stream().limit(5).forEach(study.getZones()::add);
+        for (int i = 0; i < numberOfMembers; i++) {
+            studyService.addMember(study, accountFactory.createAccount("member" + i));
+        }
+        return manager;
+    }
+}
@@ -14,6 +14,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -73,12 +75,31 @@ class StudySettingsControllerTest {
         mockMvc.perform(post(settingsDescriptionUrl)
                 .param("shortDescription", "short description")
                 .param("fullDescription", "full description")
+                .param("version", study.getVersion().toString())
                 .with(csrf()))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl(settingsDescriptionUrl))
                 .andExpect(flash().attributeExists("message"));
     }
 
+    @Test
+    @WithAccount("lhg1304")
+    @DisplayName("스터디 소개 수정 - 실패 (다른 관리자가 먼저 수정함)")
+    void updateDescription_conflict() throws Exception {
+        Account lhg1304 = accountRepository.findByNickname("lhg1304");
+        Study study = studyFactory.createStudy("test-study", lhg1304);
+
+        mockMvc.perform(post("/study/" + study.getPath() + "/settings/description")
+                .param("shortDescription", "short description")
+                .param("fullDescription", "full description")
+                .param("version", String.valueOf(study.getVersion() - 1))
+                .with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(view().name("study/settings/description"))
+                .andExpect(model().attributeExists("message"))
+                .andExpect(model().attribute("studyDescriptionForm", hasProperty("version", is(study.getVersion()))));
+    }
+
     @Test
     @WithAccount("lhg1304")
     @DisplayName("스터디 소개 수정 - 실패")
@@ -0,0 +1,78 @@
+package com.example.studyhyuck.study.search;
+
+import com.example.studyhyuck.study.StudyRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class StudySearchIndexTest {
+
+    StudyRepository repository;
+    StudySearchIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        repository = mock(StudyRepository.class);
+        index = new StudySearchIndex(repository);
+        given(repository.findTagTitles(anyCollection())).willReturn(List.of());
+        given(repository.findZoneNames(anyCollection())).willReturn(List.of());
+    }
+
+    @DisplayName("검색 색인 - 다른 인스턴스에서 바꾼 스터디는 다시 만들 때 반영")
+    @Test
+    void rebuild_picks_up_changes_from_database() {
+        given(repository.findPublishedDocumentsAfter(eq(0L), any())).willReturn(List.of(new Document(1L, "spring")));
+        index.rebuild();
+        assertEquals(List.of(1L), search("spring"));
+
+        given(repository.findPublishedDocumentsAfter(eq(0L), any()))
+                .willReturn(List.of(new Document(1L, "kotlin"), new Document(2L, "spring")));
+        index.rebuild();
+
+        assertEquals(List.of(1L), search("kotlin"));
+        assertEquals(List.of(2L), search("spring"));
+    }
+
+    @DisplayName("검색 색인 - 다시 만드는 동안 고친 스터디는 바꿔 끼운 뒤에 다시 읽음")
+    @Test
+    void rebuild_keeps_changes_made_while_rebuilding() {
+        given(repository.findPublishedDocuments(Set.of(1L))).willReturn(List.of(new Document(1L, "kotlin")));
+        given(repository.findPublishedDocumentsAfter(eq(0L), any())).willAnswer(invocation -> {
+            index.reindexAfterCommit(1L);
+            return List.of(new Document(1L, "spring"));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(1L), search("kotlin"));
+        assertEquals(List.of(), search("spring"));
+    }
+
+    private List<Long> search(String keyword) {
+        return index.search(keyword, null, null, 10).stream()
+                .map(StudySearchIndex.Hit::getStudyId)
+                .collect(Collectors.toList());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Document implements StudyDocument {
+        private final Long id;
+        private final String title;
+        private final String shortDescription = "";
+        private final String fullDescription = "";
+    }
+}
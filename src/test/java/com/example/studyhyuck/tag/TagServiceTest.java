@@ -0,0 +1,107 @@
+package com.example.studyhyuck.tag;
+
+import com.example.studyhyuck.domain.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TagServiceTest {
+
+    @Autowired TagService tagService;
+    @Autowired TagRepository tagRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @DisplayName("태그 생성 - 여러 사용자가 같은 새 태그를 동시에 만들어도 실패 없이 태그 하나만 생김")
+    @Test
+    void findOrCreateNew_concurrently() throws Exception {
+        int numberOfThreads = 8;
+        List<String> titles = IntStream.range(0, 20).mapToObj(i -> "parallel-tag" + i).collect(Collectors.toList());
+        Map<String, Set<Long>> idsByTitle = new ConcurrentHashMap<>();
+
+        try {
+            ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < numberOfThreads; t++) {
+                List<String> shuffled = new ArrayList<>(titles);
+                Collections.shuffle(shuffled);
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (String title : shuffled) {
+                        Long id = tagService.findOrCreateNew(title).getId();
+                        idsByTitle.computeIfAbsent(title, k -> ConcurrentHashMap.newKeySet()).add(id);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            executorService.shutdown();
+
+            List<Tag> created = tagRepository.findByTitleIn(titles);
+            assertEquals(titles.size(), created.size());
+            Map<String, Long> createdIds = new HashMap<>();
+            created.forEach(tag -> createdIds.put(tag.getTitle(), tag.getId()));
+            for (String title : titles) {
+                assertEquals(Set.of(createdIds.get(title)), idsByTitle.get(title));
+            }
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+            titles.forEach(title -> assertEquals(createdIds.get(title), tagService.findOrCreateNew(title).getId()));
+            assertEquals(0, statistics.getPrepareStatementCount());
+            log.info("findOrCreateNew {} threads x {} tags: {} tags created", numberOfThreads, titles.size(), created.size());
+        } finally {
+            tagRepository.deleteAll(tagRepository.findByTitleIn(titles));
+        }
+    }
+
+    @DisplayName("태그 생성 - upsert 가 id 를 돌려주지 못하면 null id 를 쓰거나 담아 두지 않고 실패")
+    @Test
+    void findOrCreateNew_without_id() {
+        TagRepository repository = mock(TagRepository.class);
+        TagService service = new TagService(repository);
+        given(repository.insertIfAbsent("missing-tag")).willReturn(null, 7L);
+
+        assertThrows(IllegalStateException.class, () -> service.findOrCreateNew("missing-tag"));
+        verify(repository, never()).getOne(any());
+
+        service.findOrCreateNew("missing-tag");
+        verify(repository, times(2)).insertIfAbsent("missing-tag");
+        verify(repository).getOne(7L);
+    }
+
+}